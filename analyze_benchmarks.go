@@ -3,6 +3,7 @@ package main
 import (
 	"bufio"
 	"encoding/csv"
+	"encoding/json"
 	"fmt"
 	"os"
 	"path/filepath"
@@ -24,13 +25,20 @@ type BenchmarkResult struct {
 	DebianValue     float64
 	IYAValue        float64
 	RHELValue       float64
-	// Additional metrics
+	// Additional metrics. Go fills these from -benchmem; Java fills
+	// BytesPerOp from JMH's gc.alloc.rate.norm and leaves AllocsPerOp at 0,
+	// since JMH does not count individual allocations.
 	DebianBytesPerOp  float64
 	IYABytesPerOp     float64
 	RHELBytesPerOp    float64
 	DebianAllocsPerOp float64
 	IYAAllocsPerOp    float64
 	RHELAllocsPerOp   float64
+	// Java only: JMH's gc.count, the collections per measurement iteration.
+	// It depends on iteration time and heap size, so it is not per op.
+	DebianGCCount float64
+	IYAGCCount    float64
+	RHELGCCount   float64
 }
 
 // TestStyle represents a benchmark test configuration
@@ -41,6 +49,42 @@ type TestStyle struct {
 	Description string
 }
 
+// benchmarkMetrics holds one benchmark's numbers on one system
+type benchmarkMetrics struct {
+	nsOp     float64
+	bytesOp  float64
+	allocsOp float64
+	gcCount  float64
+}
+
+// jmhResult is the subset of a JMH JSON result entry the analyzer reads
+type jmhResult struct {
+	Benchmark        string               `json:"benchmark"`
+	Params           map[string]string    `json:"params"`
+	PrimaryMetric    jmhMetric            `json:"primaryMetric"`
+	SecondaryMetrics map[string]jmhMetric `json:"secondaryMetrics"`
+}
+
+// jmhMetric is a JMH score with its unit, e.g. ops/s or B/op
+type jmhMetric struct {
+	Score     jmhScore `json:"score"`
+	ScoreUnit string   `json:"scoreUnit"`
+}
+
+// jmhScore accepts JMH's numeric scores as well as the "NaN" string it
+// writes when a metric could not be computed
+type jmhScore float64
+
+func (s *jmhScore) UnmarshalJSON(data []byte) error {
+	var f float64
+	if err := json.Unmarshal(data, &f); err == nil {
+		*s = jmhScore(f)
+		return nil
+	}
+	*s = 0
+	return nil
+}
+
 // AnalysisResult holds statistical analysis
 type AnalysisResult struct {
 	TestStyle        string
@@ -134,7 +178,8 @@ func main() {
 
 		// Export detailed CSV files for each test style
 		fmt.Println("\n📊 Generating detailed CSV files...")
-		exportDetailedCSVFiles(allBenchmarks)
+		exportDetailedCSVFiles(allBenchmarks, "go_benchmark",
+			[]string{"Quick", "Standard", "Extended", "Profiled"}, false)
 
 		fmt.Println("\n✅ Analysis complete!")
 		fmt.Println("📁 Generated files:")
@@ -145,6 +190,58 @@ func main() {
 		fmt.Println("   - go_benchmark_EXTENDED_comparison.csv")
 		fmt.Println("   - go_benchmark_PROFILED_comparison.csv")
 	}
+
+	analyzeJavaBenchmarks()
+}
+
+// analyzeJavaBenchmarks compares the JMH JSON results of the three systems
+// for every GC configuration run_java_benchmarks.sh sweeps
+func analyzeJavaBenchmarks() {
+	fmt.Println("\n=== Java Benchmark Analysis ===")
+	fmt.Println()
+
+	dirs := map[string]string{
+		"Debian": "java_benchmark_java_system_debian11",
+		"IYA":    "java_benchmark_java_system_IYA",
+		"RHEL":   "java_benchmark_java_system_rhel",
+	}
+
+	gcStyles := []TestStyle{
+		{Name: "Default", Filename: "java_results_default.json", Description: "JVM default GC"},
+		{Name: "G1GC", Filename: "java_results_g1gc.json", Description: "G1 garbage collector"},
+		{Name: "ZGC", Filename: "java_results_zgc.json", Description: "Z garbage collector"},
+		{Name: "Parallel", Filename: "java_results_parallel.json", Description: "Parallel garbage collector"},
+	}
+
+	allBenchmarks := make(map[string][]BenchmarkResult)
+	var styleNames []string
+
+	for _, style := range gcStyles {
+		fmt.Printf("📊 Analyzing Java %s benchmark (%s)...\n", style.Name, style.Description)
+
+		benchmarks, err := readJavaBenchmarkFiles(dirs, style.Filename)
+		if err != nil {
+			fmt.Printf("   ❌ Error reading benchmarks: %v\n\n", err)
+			continue
+		}
+
+		if len(benchmarks) == 0 {
+			fmt.Printf("   ⚠️  No benchmarks found\n\n")
+			continue
+		}
+
+		allBenchmarks[style.Name] = benchmarks
+		styleNames = append(styleNames, style.Name)
+		printAnalysisSummary(analyzeBenchmarks(style.Name, benchmarks))
+		fmt.Println()
+	}
+
+	if len(allBenchmarks) > 0 {
+		generateCategoryAnalysis(allBenchmarks)
+
+		fmt.Println("\n📊 Generating Java CSV files...")
+		exportDetailedCSVFiles(allBenchmarks, "java_benchmark", styleNames, true)
+	}
 }
 
 // readCSV reads and parses a CSV benchmark file
@@ -215,12 +312,7 @@ func parseNsOp(s string) float64 {
 
 // readBenchmarkFiles reads benchmark data from result directories
 func readBenchmarkFiles(dirs map[string]string, filename string) ([]BenchmarkResult, error) {
-	type BenchmarkMetrics struct {
-		nsOp     float64
-		bytesOp  float64
-		allocsOp float64
-	}
-	benchmarkData := make(map[string]map[string]*BenchmarkMetrics) // benchmark -> OS -> metrics
+	benchmarkData := make(map[string]map[string]*benchmarkMetrics) // benchmark -> OS -> metrics
 
 	for osName, dir := range dirs {
 		filePath := filepath.Join(dir, filename)
@@ -246,7 +338,7 @@ func readBenchmarkFiles(dirs map[string]string, filename string) ([]BenchmarkRes
 				// Extract benchmark name (remove -4 suffix)
 				name := strings.TrimSuffix(fields[0], "-4")
 
-				metrics := &BenchmarkMetrics{}
+				metrics := &benchmarkMetrics{}
 
 				// Parse ns/op value (3rd field)
 				if nsOp, err := strconv.ParseFloat(fields[2], 64); err == nil {
@@ -268,7 +360,7 @@ func readBenchmarkFiles(dirs map[string]string, filename string) ([]BenchmarkRes
 				}
 
 				if benchmarkData[name] == nil {
-					benchmarkData[name] = make(map[string]*BenchmarkMetrics)
+					benchmarkData[name] = make(map[string]*benchmarkMetrics)
 				}
 				benchmarkData[name][osName] = metrics
 			}
@@ -279,7 +371,107 @@ func readBenchmarkFiles(dirs map[string]string, filename string) ([]BenchmarkRes
 		}
 	}
 
-	// Convert to BenchmarkResult slice
+	return buildResults(benchmarkData), nil
+}
+
+// readJavaBenchmarkFiles reads JMH JSON results (run with -prof gc) from result directories
+func readJavaBenchmarkFiles(dirs map[string]string, filename string) ([]BenchmarkResult, error) {
+	benchmarkData := make(map[string]map[string]*benchmarkMetrics) // benchmark -> OS -> metrics
+
+	for osName, dir := range dirs {
+		filePath := filepath.Join(dir, filename)
+
+		data, err := os.ReadFile(filePath)
+		if err != nil {
+			fmt.Printf("   ⚠️  Cannot read %s: %v\n", filePath, err)
+			continue
+		}
+
+		var entries []jmhResult
+		if err := json.Unmarshal(data, &entries); err != nil {
+			return nil, fmt.Errorf("parsing %s: %w", filePath, err)
+		}
+
+		for _, entry := range entries {
+			nsOp := jmhNsPerOp(entry.PrimaryMetric)
+			if nsOp <= 0 {
+				continue
+			}
+
+			metrics := &benchmarkMetrics{
+				nsOp:    nsOp,
+				bytesOp: float64(entry.SecondaryMetrics["gc.alloc.rate.norm"].Score),
+				gcCount: float64(entry.SecondaryMetrics["gc.count"].Score),
+			}
+
+			name := jmhBenchmarkName(entry)
+			if benchmarkData[name] == nil {
+				benchmarkData[name] = make(map[string]*benchmarkMetrics)
+			}
+			benchmarkData[name][osName] = metrics
+		}
+	}
+
+	return buildResults(benchmarkData), nil
+}
+
+// jmhBenchmarkName maps benchmark.CompleteBenchmarks.benchmarkFibonacci20 to
+// BenchmarkFibonacci20 so it pairs with the Go name. Benchmarks from other
+// classes keep the class as a prefix, and JMH params become Go-style
+// sub-benchmark suffixes, e.g. MatrixBenchmarks/BenchmarkMatrixTiled/size=512.
+func jmhBenchmarkName(entry jmhResult) string {
+	parts := strings.Split(strings.TrimPrefix(entry.Benchmark, "benchmark."), ".")
+	method := parts[len(parts)-1]
+	name := method
+	if strings.HasPrefix(method, "benchmark") {
+		name = "Benchmark" + strings.TrimPrefix(method, "benchmark")
+	}
+	// Nested benchmark classes keep their outer class, e.g. AllocationBenchmarks.Threaded
+	if class := strings.Join(parts[:len(parts)-1], "."); class != "" && class != "CompleteBenchmarks" {
+		name = class + "/" + name
+	}
+
+	keys := make([]string, 0, len(entry.Params))
+	for k := range entry.Params {
+		keys = append(keys, k)
+	}
+	sort.Strings(keys)
+	for _, k := range keys {
+		name += "/" + k + "=" + entry.Params[k]
+	}
+	return name
+}
+
+// jmhNsPerOp converts a JMH primary score to ns/op so Java results sort the
+// same way as Go's (lower is better). Returns 0 for unknown units.
+func jmhNsPerOp(m jmhMetric) float64 {
+	score := float64(m.Score)
+	if score <= 0 {
+		return 0
+	}
+	switch m.ScoreUnit {
+	case "ops/s":
+		return 1e9 / score
+	case "ops/ms":
+		return 1e6 / score
+	case "ops/us":
+		return 1e3 / score
+	case "ops/ns":
+		return 1 / score
+	case "s/op":
+		return score * 1e9
+	case "ms/op":
+		return score * 1e6
+	case "us/op":
+		return score * 1e3
+	case "ns/op":
+		return score
+	}
+	return 0
+}
+
+// buildResults converts per-system metrics into BenchmarkResults sorted by name
+func buildResults(benchmarkData map[string]map[string]*benchmarkMetrics) []BenchmarkResult {
 	var results []BenchmarkResult
 	for name, osData := range benchmarkData {
 		// Only include benchmarks that have data from all three OS
@@ -300,6 +492,9 @@ func readBenchmarkFiles(dirs map[string]string, filename string) ([]BenchmarkRes
 			DebianAllocsPerOp: osData["Debian"].allocsOp,
 			IYAAllocsPerOp:    osData["IYA"].allocsOp,
 			RHELAllocsPerOp:   osData["RHEL"].allocsOp,
+			DebianGCCount:     osData["Debian"].gcCount,
+			IYAGCCount:        osData["IYA"].gcCount,
+			RHELGCCount:       osData["RHEL"].gcCount,
 		}
 
 		// Format string values
@@ -328,7 +523,7 @@ func readBenchmarkFiles(dirs map[string]string, filename string) ([]BenchmarkRes
 		return results[i].Name < results[j].Name
 	})
 
-	return results, nil
+	return results
 }
 
 // analyzeBenchmarks performs statistical analysis on benchmark results
@@ -659,27 +854,21 @@ func calculateAvgSpeedup(results []BenchmarkResult) float64 {
 	return average(speedups)
 }
 
-// exportDetailedCSVFiles creates detailed CSV comparison files for each test style
-func exportDetailedCSVFiles(allBenchmarks map[string][]BenchmarkResult) {
-	testStyles := []struct {
-		name     string
-		filename string
-	}{
-		{"Quick", "go_benchmark_QUICK_comparison.csv"},
-		{"Standard", "go_benchmark_STANDARD_comparison.csv"},
-		{"Extended", "go_benchmark_EXTENDED_comparison.csv"},
-		{"Profiled", "go_benchmark_PROFILED_comparison.csv"},
-	}
+// exportDetailedCSVFiles creates detailed CSV comparison files for each test style,
+// named <prefix>_<STYLE>_comparison.csv. With gcCounts the allocs/op columns
+// are replaced by unranked GC count columns, since Java has no allocs/op.
+func exportDetailedCSVFiles(allBenchmarks map[string][]BenchmarkResult, prefix string, styleNames []string, gcCounts bool) {
+	for _, styleName := range styleNames {
+		filename := fmt.Sprintf("%s_%s_comparison.csv", prefix, strings.ToUpper(styleName))
 
-	for _, style := range testStyles {
-		benchmarks, exists := allBenchmarks[style.name]
+		benchmarks, exists := allBenchmarks[styleName]
 		if !exists || len(benchmarks) == 0 {
 			continue
 		}
 
-		file, err := os.Create(style.filename)
+		file, err := os.Create(filename)
 		if err != nil {
-			fmt.Printf("   ❌ Error creating %s: %v\n", style.filename, err)
+			fmt.Printf("   ❌ Error creating %s: %v\n", filename, err)
 			continue
 		}
 		defer file.Close()
@@ -700,10 +889,20 @@ func exportDetailedCSVFiles(allBenchmarks map[string][]BenchmarkResult) {
 			"IYA Linux 0.5.0 (B/op)",
 			"RHEL 10.0 (B/op)",
 			"Best Performance (B/op)",
-			"Debian 11 (allocs/op)",
-			"IYA Linux 0.5.0 (allocs/op)",
-			"RHEL 10.0 (allocs/op)",
-			"Best Performance (allocs/op)",
+		}
+		if gcCounts {
+			header = append(header,
+				"Debian 11 (GC count)",
+				"IYA Linux 0.5.0 (GC count)",
+				"RHEL 10.0 (GC count)",
+			)
+		} else {
+			header = append(header,
+				"Debian 11 (allocs/op)",
+				"IYA Linux 0.5.0 (allocs/op)",
+				"RHEL 10.0 (allocs/op)",
+				"Best Performance (allocs/op)",
+			)
 		}
 		writer.Write(header)
 
@@ -759,14 +958,24 @@ func exportDetailedCSVFiles(allBenchmarks map[string][]BenchmarkResult) {
 				fmt.Sprintf("%.0f", b.IYABytesPerOp),
 				fmt.Sprintf("%.0f", b.RHELBytesPerOp),
 				bestBytes,
-				fmt.Sprintf("%.0f", b.DebianAllocsPerOp),
-				fmt.Sprintf("%.0f", b.IYAAllocsPerOp),
-				fmt.Sprintf("%.0f", b.RHELAllocsPerOp),
-				bestAllocs,
+			}
+			if gcCounts {
+				row = append(row,
+					fmt.Sprintf("%.0f", b.DebianGCCount),
+					fmt.Sprintf("%.0f", b.IYAGCCount),
+					fmt.Sprintf("%.0f", b.RHELGCCount),
+				)
+			} else {
+				row = append(row,
+					fmt.Sprintf("%.0f", b.DebianAllocsPerOp),
+					fmt.Sprintf("%.0f", b.IYAAllocsPerOp),
+					fmt.Sprintf("%.0f", b.RHELAllocsPerOp),
+					bestAllocs,
+				)
 			}
 			writer.Write(row)
 		}
 
-		fmt.Printf("   ✅ Created %s (%d benchmarks)\n", style.filename, len(benchmarks))
+		fmt.Printf("   ✅ Created %s (%d benchmarks)\n", filename, len(benchmarks))
 	}
 }
@@ -0,0 +1,135 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocation strategies next to {@code benchmarkMemoryAllocation1MB/10MB}:
+ * plain {@code new byte[]} and {@code ByteBuffer.allocate*} (the TLAB or
+ * humongous path), a lock-free {@link ByteBufferPool}, a thread-local
+ * {@link SlabAllocator}, and {@link Arena}-scoped {@link MemorySegment}s.
+ *
+ * <p>Every op obtains one buffer of {@code size} bytes, writes its first and
+ * last byte, and gives it back where the strategy has a way to. This class runs
+ * single-threaded; {@link Threaded} repeats every benchmark on all cores
+ * against the same shared pools (override the count with {@code -t}); each
+ * thread's slab holds {@value #SLAB_ALLOCATIONS} buffers, so 10MB on all cores
+ * needs 40MB of heap per core. The runner executes both under each GC
+ * configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class AllocationBenchmarks {
+
+    /** Allocations each thread's slab holds before wrapping. */
+    private static final int SLAB_ALLOCATIONS = 4;
+
+    @Param({"1024", "1048576", "10485760"})
+    public int size;
+
+    private ByteBufferPool heapPool;
+    private ByteBufferPool directPool;
+    private SlabAllocator slab;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int capacity = 2 * Runtime.getRuntime().availableProcessors();
+        heapPool = new ByteBufferPool(size, capacity, false);
+        directPool = new ByteBufferPool(size, capacity, true);
+        // Room for a few allocations before a thread wraps around its slab; one
+        // slab per thread, so it scales with size rather than a fixed floor
+        slab = new SlabAllocator(SLAB_ALLOCATIONS * size, false);
+    }
+
+    /** The same benchmarks with one thread per available processor. */
+    @Threads(Threads.MAX)
+    public static class Threaded extends AllocationBenchmarks {
+    }
+
+    // ============================================================
+    // Baselines
+    // ============================================================
+
+    @Benchmark
+    public byte[] benchmarkNewByteArray() {
+        byte[] bytes = new byte[size];
+        bytes[0] = 1;
+        bytes[size - 1] = 1;
+        return bytes;
+    }
+
+    @Benchmark
+    public ByteBuffer benchmarkHeapByteBuffer() {
+        return touch(ByteBuffer.allocate(size));
+    }
+
+    @Benchmark
+    public ByteBuffer benchmarkDirectByteBuffer() {
+        return touch(ByteBuffer.allocateDirect(size));
+    }
+
+    // ============================================================
+    // Pooled
+    // ============================================================
+
+    @Benchmark
+    public byte benchmarkPooledHeapBuffer() {
+        ByteBuffer buffer = touch(heapPool.acquire());
+        byte b = buffer.get(size - 1);
+        heapPool.release(buffer);
+        return b;
+    }
+
+    @Benchmark
+    public byte benchmarkPooledDirectBuffer() {
+        ByteBuffer buffer = touch(directPool.acquire());
+        byte b = buffer.get(size - 1);
+        directPool.release(buffer);
+        return b;
+    }
+
+    @Benchmark
+    public ByteBuffer benchmarkSlabAllocation() {
+        return touch(slab.allocate(size));
+    }
+
+    // ============================================================
+    // Arena
+    // ============================================================
+
+    @Benchmark
+    public byte benchmarkConfinedArena() {
+        try (Arena arena = Arena.ofConfined()) {
+            return touch(arena.allocate(size));
+        }
+    }
+
+    @Benchmark
+    public byte benchmarkSharedArena() {
+        try (Arena arena = Arena.ofShared()) {
+            return touch(arena.allocate(size));
+        }
+    }
+
+    private ByteBuffer touch(ByteBuffer buffer) {
+        buffer.put(0, (byte) 1);
+        buffer.put(size - 1, (byte) 1);
+        return buffer;
+    }
+
+    private byte touch(MemorySegment segment) {
+        segment.set(ValueLayout.JAVA_BYTE, 0, (byte) 1);
+        segment.set(ValueLayout.JAVA_BYTE, size - 1, (byte) 1);
+        return segment.get(ValueLayout.JAVA_BYTE, size - 1);
+    }
+}
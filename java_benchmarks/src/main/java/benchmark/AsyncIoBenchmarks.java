@@ -0,0 +1,248 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Random {@code blockSize} reads with {@code queueDepth} requests in flight,
+ * issued three ways:
+ *
+ * <ul>
+ *   <li>{@code benchmarkAsyncChannel} - {@link AsynchronousFileChannel} with a
+ *       {@link CompletionHandler} that issues the next read</li>
+ *   <li>{@code benchmarkVirtualThreads} - one virtual thread per read doing a
+ *       blocking positional {@link FileChannel#read(ByteBuffer, long)}</li>
+ *   <li>{@code benchmarkFixedPool} - the same blocking reads on a fixed
+ *       100-thread pool, the {@code executor=fixed100} option of
+ *       {@link CompleteBenchmarks.ExecutorState}, so depths above 100 queue
+ *       inside the pool</li>
+ * </ul>
+ *
+ * <p>Each op issues {@value #BATCH} reads, so the score is IOPS. Per-read
+ * latency (submit to completion) is recorded over the measurement iterations
+ * and reported as the {@code readP50Us}, {@code readP99Us} and
+ * {@code readMaxUs} secondary results.
+ *
+ * <p>The file is written once per trial; with {@code fileSize} below free RAM
+ * the reads hit the page cache and compare dispatch overhead, larger files
+ * measure the device. Point {@code -Dbenchmark.io.dir} at the disk under test.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AsyncIoBenchmarks {
+
+    /** Reads issued per invocation. */
+    private static final int BATCH = 1024;
+
+    @Param({"1", "4", "16", "64", "256"})
+    public int queueDepth;
+
+    @Param({"1073741824"})
+    public long fileSize;
+
+    @Param({"4096"})
+    public int blockSize;
+
+    private Path dir;
+    private FileChannel channel;
+    private AsynchronousFileChannel asyncChannel;
+    private ExecutorService virtualExecutor;
+    private ExecutorService fixedPool;
+    private BlockingQueue<ByteBuffer> buffers;
+    private SplittableRandom random;
+    private LatencyRecorder latency;
+    private volatile boolean measuring;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        dir = BenchmarkFiles.createTempDirectory("async-io-bench");
+        Path file = BenchmarkFiles.writeRandomFile(dir.resolve("data.bin"), fileSize);
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        asyncChannel = AsynchronousFileChannel.open(file, StandardOpenOption.READ);
+        virtualExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        fixedPool = Executors.newFixedThreadPool(100);
+        // One buffer per in-flight read; taking one is how the blocking models bound the depth
+        buffers = new ArrayBlockingQueue<>(queueDepth);
+        for (int i = 0; i < queueDepth; i++) {
+            buffers.add(ByteBuffer.allocateDirect(blockSize));
+        }
+        random = new SplittableRandom(42);
+        latency = new LatencyRecorder();
+        measuring = false;
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration(IterationParams params) {
+        if (params.getType() == IterationType.MEASUREMENT && !measuring) {
+            measuring = true;
+            latency.reset();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, InterruptedException {
+        virtualExecutor.shutdown();
+        fixedPool.shutdown();
+        virtualExecutor.awaitTermination(60, TimeUnit.SECONDS);
+        fixedPool.awaitTermination(60, TimeUnit.SECONDS);
+        asyncChannel.close();
+        channel.close();
+        BenchmarkFiles.deleteRecursively(dir);
+    }
+
+    /** Read latency percentiles in microseconds, published once per trial by {@link TrialReport}. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ReadLatency {
+        private final TrialReport report = new TrialReport();
+        private LatencyRecorder latency;
+
+        @Setup(Level.Iteration)
+        public void bind(AsyncIoBenchmarks b, ThreadParams thread, IterationParams iteration) {
+            latency = report.reportsIn(thread, iteration) ? b.latency : null;
+        }
+
+        public double readP50Us() {
+            return latency == null ? 0 : latency.percentileMicros(0.50);
+        }
+
+        public double readP99Us() {
+            return latency == null ? 0 : latency.percentileMicros(0.99);
+        }
+
+        public double readMaxUs() {
+            return latency == null ? 0 : latency.percentileMicros(1.0);
+        }
+    }
+
+    // ============================================================
+    // AsynchronousFileChannel
+    // ============================================================
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long benchmarkAsyncChannel(ReadLatency l) throws InterruptedException {
+        AsyncBatch batch = new AsyncBatch();
+        for (int i = 0; i < Math.min(queueDepth, BATCH); i++) {
+            batch.issue(buffers.poll());
+        }
+        batch.done.await();
+        if (batch.failure != null) {
+            throw new UncheckedIOException(new IOException(batch.failure));
+        }
+        return batch.bytes.get();
+    }
+
+    /** Keeps {@code queueDepth} reads in flight by issuing the next one from each completion. */
+    private final class AsyncBatch {
+        final AtomicInteger issued = new AtomicInteger();
+        final AtomicInteger bytes = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(BATCH);
+        volatile Throwable failure;
+
+        void issue(ByteBuffer buffer) {
+            if (issued.getAndIncrement() >= BATCH) {
+                // Returned before the latch drops, so the next batch finds every buffer
+                buffers.add(buffer);
+                return;
+            }
+            buffer.clear();
+            long position = nextOffset();
+            long start = System.nanoTime();
+            asyncChannel.read(buffer, position, buffer, new CompletionHandler<>() {
+                @Override
+                public void completed(Integer n, ByteBuffer b) {
+                    record(start);
+                    bytes.addAndGet(n);
+                    issue(b);
+                    done.countDown();
+                }
+
+                @Override
+                public void failed(Throwable exc, ByteBuffer b) {
+                    failure = exc;
+                    issue(b);
+                    done.countDown();
+                }
+            });
+        }
+    }
+
+    // ============================================================
+    // Blocking reads
+    // ============================================================
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long benchmarkVirtualThreads(ReadLatency l) throws InterruptedException {
+        return blockingBatch(virtualExecutor);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long benchmarkFixedPool(ReadLatency l) throws InterruptedException {
+        return blockingBatch(fixedPool);
+    }
+
+    private long blockingBatch(ExecutorService executor) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(BATCH);
+        AtomicInteger bytes = new AtomicInteger();
+        for (int i = 0; i < BATCH; i++) {
+            ByteBuffer buffer = buffers.take();
+            long position = nextOffset();
+            long start = System.nanoTime();
+            executor.execute(() -> {
+                try {
+                    buffer.clear();
+                    bytes.addAndGet(channel.read(buffer, position));
+                    record(start);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    buffers.add(buffer);
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        return bytes.get();
+    }
+
+    // ============================================================
+    // Helpers
+    // ============================================================
+
+    /** Random block-aligned offset; completion handlers call this from pool threads. */
+    private synchronized long nextOffset() {
+        return random.nextLong(Math.max(1, fileSize / blockSize)) * blockSize;
+    }
+
+    private void record(long start) {
+        if (measuring) {
+            latency.record(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+/**
+ * Scratch files for the I/O benchmarks.
+ *
+ * <p>Files go under {@code -Dbenchmark.io.dir=<path>} when set, so a run can
+ * target a specific disk, and under {@code java.io.tmpdir} otherwise.
+ */
+final class BenchmarkFiles {
+
+    static final String DIR_PROPERTY = "benchmark.io.dir";
+
+    private static final int WRITE_CHUNK = 1024 * 1024;
+
+    private BenchmarkFiles() {
+    }
+
+    static Path createTempDirectory(String prefix) throws IOException {
+        String base = System.getProperty(DIR_PROPERTY);
+        if (base == null) {
+            return Files.createTempDirectory(prefix);
+        }
+        Path dir = Paths.get(base);
+        Files.createDirectories(dir);
+        return Files.createTempDirectory(dir, prefix);
+    }
+
+    /** Writes {@code size} bytes of seeded random data to {@code file} and forces them to disk. */
+    static Path writeRandomFile(Path file, long size) throws IOException {
+        SplittableRandom random = new SplittableRandom(42);
+        ByteBuffer chunk = ByteBuffer.allocateDirect(WRITE_CHUNK);
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long remaining = size;
+            while (remaining > 0) {
+                chunk.clear();
+                while (chunk.remaining() >= Long.BYTES) {
+                    chunk.putLong(random.nextLong());
+                }
+                chunk.flip();
+                chunk.limit((int) Math.min(chunk.limit(), remaining));
+                while (chunk.hasRemaining()) {
+                    remaining -= channel.write(chunk);
+                }
+            }
+            channel.force(true);
+        }
+        return file;
+    }
+
+    static void deleteRecursively(Path dir) throws IOException {
+        if (dir == null || !Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode of one {@link CompleteBenchmarks.ComplexData} per op across
+ * wire formats, next to {@code benchmarkJSONMarshal/Unmarshal}:
+ *
+ * <ul>
+ *   <li>{@code json}, {@code smile}, {@code cbor} - Jackson databind over the
+ *       text, Smile and CBOR factories</li>
+ *   <li>{@code java} - default {@code ObjectOutputStream} serialization</li>
+ *   <li>{@code externalizable} - {@link ComplexDataBinary.ExternalizableData}
+ *       through {@code ObjectOutputStream}</li>
+ *   <li>{@code dataStream} - the {@link ComplexDataBinary} layout over a bare
+ *       {@code DataOutputStream}</li>
+ * </ul>
+ *
+ * <p>Every encode returns a fresh {@code byte[]} and every decode a fresh
+ * object, so {@code gc.alloc.rate.norm} (the runner passes {@code -prof gc})
+ * compares like for like. Each format's encoded size is reported as the
+ * {@code encodedBytes} secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BinaryFormatBenchmarks {
+
+    @Param({"json", "smile", "cbor", "java", "externalizable", "dataStream"})
+    public String format;
+
+    private Codec codec;
+    private CompleteBenchmarks.ComplexData data;
+    private byte[] encoded;
+
+    private interface Codec {
+        byte[] encode(CompleteBenchmarks.ComplexData data) throws IOException;
+
+        CompleteBenchmarks.ComplexData decode(byte[] bytes) throws IOException, ClassNotFoundException;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        data = format.equals("externalizable") ? new ComplexDataBinary.ExternalizableData() : new CompleteBenchmarks.ComplexData();
+        codec = switch (format) {
+            case "json" -> jackson(new ObjectMapper());
+            case "smile" -> jackson(new ObjectMapper(new SmileFactory()));
+            case "cbor" -> jackson(new ObjectMapper(new CBORFactory()));
+            case "java", "externalizable" -> new Codec() {
+                @Override
+                public byte[] encode(CompleteBenchmarks.ComplexData data) throws IOException {
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+                    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                        out.writeObject(data);
+                    }
+                    return bytes.toByteArray();
+                }
+
+                @Override
+                public CompleteBenchmarks.ComplexData decode(byte[] bytes) throws IOException, ClassNotFoundException {
+                    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                        return (CompleteBenchmarks.ComplexData) in.readObject();
+                    }
+                }
+            };
+            case "dataStream" -> new Codec() {
+                @Override
+                public byte[] encode(CompleteBenchmarks.ComplexData data) throws IOException {
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+                    ComplexDataBinary.write(data, new DataOutputStream(bytes));
+                    return bytes.toByteArray();
+                }
+
+                @Override
+                public CompleteBenchmarks.ComplexData decode(byte[] bytes) throws IOException {
+                    return ComplexDataBinary.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+                }
+            };
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        encoded = codec.encode(data);
+    }
+
+    /** Size of one encoded {@code ComplexData}, published once per trial by {@link TrialReport}. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        private final TrialReport report = new TrialReport();
+        private long bytes;
+
+        @Setup(Level.Iteration)
+        public void bind(BinaryFormatBenchmarks b, ThreadParams thread, IterationParams iteration) {
+            bytes = report.reportsIn(thread, iteration) ? b.encoded.length : 0;
+        }
+
+        public long encodedBytes() {
+            return bytes;
+        }
+    }
+
+    private static Codec jackson(ObjectMapper mapper) {
+        return new Codec() {
+            @Override
+            public byte[] encode(CompleteBenchmarks.ComplexData data) throws IOException {
+                return mapper.writeValueAsBytes(data);
+            }
+
+            @Override
+            public CompleteBenchmarks.ComplexData decode(byte[] bytes) throws IOException {
+                return mapper.readValue(bytes, CompleteBenchmarks.ComplexData.class);
+            }
+        };
+    }
+
+    @Benchmark
+    public byte[] benchmarkEncode(EncodedSize size) throws IOException {
+        return codec.encode(data);
+    }
+
+    @Benchmark
+    public CompleteBenchmarks.ComplexData benchmarkDecode(EncodedSize size) throws Exception {
+        return codec.decode(encoded);
+    }
+}
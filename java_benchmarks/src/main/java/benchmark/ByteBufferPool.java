@@ -0,0 +1,76 @@
+package benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free pool of fixed-size {@link ByteBuffer}s, heap or direct.
+ *
+ * <p>Pooled buffers sit in an {@link AtomicReferenceArray}; {@link #acquire()}
+ * CASes a non-null slot to null and {@link #release} CASes a null slot back to
+ * the buffer. Each thread starts scanning at a slot derived from its id so
+ * threads mostly work on different slots. An empty pool falls back to a fresh
+ * allocation and a full pool drops the released buffer, so neither call ever
+ * blocks. Unlike {@code new byte[]}, a recycled buffer is not zeroed.
+ */
+public final class ByteBufferPool {
+
+    private final AtomicReferenceArray<ByteBuffer> slots;
+    private final int mask;
+    private final int bufferSize;
+    private final boolean direct;
+
+    /**
+     * @param capacity rounded up to a power of two
+     */
+    public ByteBufferPool(int bufferSize, int capacity, boolean direct) {
+        if (bufferSize <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("bufferSize and capacity must be positive");
+        }
+        int slotCount = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(slotCount);
+        this.mask = slotCount - 1;
+        this.bufferSize = bufferSize;
+        this.direct = direct;
+    }
+
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    public boolean isDirect() {
+        return direct;
+    }
+
+    /** Returns a pooled buffer, cleared for writing, or a new one if none is free. */
+    public ByteBuffer acquire() {
+        int start = startSlot();
+        for (int i = 0; i <= mask; i++) {
+            int slot = (start + i) & mask;
+            ByteBuffer buffer = slots.getPlain(slot);
+            if (buffer != null && slots.compareAndSet(slot, buffer, null)) {
+                return buffer.clear();
+            }
+        }
+        return direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+    }
+
+    /** Returns {@code buffer} to the pool; it is dropped if every slot is taken. */
+    public void release(ByteBuffer buffer) {
+        if (buffer.capacity() != bufferSize || buffer.isDirect() != direct) {
+            throw new IllegalArgumentException("buffer does not belong to this pool");
+        }
+        int start = startSlot();
+        for (int i = 0; i <= mask; i++) {
+            int slot = (start + i) & mask;
+            if (slots.getPlain(slot) == null && slots.compareAndSet(slot, null, buffer)) {
+                return;
+            }
+        }
+    }
+
+    private int startSlot() {
+        long id = Thread.currentThread().threadId();
+        return (int) (id * 0x9E3779B97F4A7C15L >>> 32) & mask;
+    }
+}
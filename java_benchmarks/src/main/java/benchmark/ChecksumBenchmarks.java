@@ -0,0 +1,188 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+/**
+ * Checksums and Base64 over {@code payload} bytes held as a {@code byte[]}
+ * ({@code array}), a heap {@link ByteBuffer} ({@code heap}) or a direct one
+ * ({@code direct}). {@code benchmark*Large} in {@code CompleteBenchmarks}
+ * cover the same operations over its 1MB {@code largeData}.
+ *
+ * <p>The {@code megabytes} counter reports input MB/s. {@code byte[]} Base64
+ * paths write into preallocated arrays; the {@link ByteBuffer} overloads
+ * always return a new heap buffer, so their {@code gc.alloc.rate.norm}
+ * includes the output. Compare with intrinsics off via
+ * {@code -jvmArgsAppend "-XX:+UnlockDiagnosticVMOptions -XX:-UseCRC32Intrinsics"}
+ * (also {@code UseCRC32CIntrinsics}, {@code UseAdler32Intrinsics},
+ * {@code UseBASE64Intrinsics}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ChecksumBenchmarks {
+
+    @Param({"64", "1024", "65536", "1048576", "67108864"})
+    public int payload;
+
+    @Param({"array", "heap", "direct"})
+    public String buffer;
+
+    private byte[] array;
+    private ByteBuffer data;
+    private final CRC32 crc32 = new CRC32();
+    private final CRC32C crc32c = new CRC32C();
+    private final Adler32 adler32 = new Adler32();
+
+    private final Base64.Encoder basicEncoder = Base64.getEncoder();
+    private final Base64.Encoder urlEncoder = Base64.getUrlEncoder();
+    private final Base64.Encoder mimeEncoder = Base64.getMimeEncoder();
+    private final Base64.Decoder basicDecoder = Base64.getDecoder();
+    private final Base64.Decoder urlDecoder = Base64.getUrlDecoder();
+    private final Base64.Decoder mimeDecoder = Base64.getMimeDecoder();
+
+    private byte[] encodeOutput;
+    private byte[] decodeOutput;
+    private Encoded basic;
+    private Encoded url;
+    private Encoded mime;
+
+    /** One Base64 flavour's encoding of the payload, as both an array and a buffer of the chosen kind. */
+    private record Encoded(byte[] array, ByteBuffer buffer) {
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        byte[] bytes = new byte[payload];
+        new SplittableRandom(42).nextBytes(bytes);
+        array = bytes;
+        data = wrap(bytes);
+        // MIME adds a CRLF per 76 output chars, so it is the largest encoding
+        encodeOutput = new byte[mimeEncoder.encode(new byte[payload]).length];
+        decodeOutput = new byte[payload];
+        basic = encoded(basicEncoder.encode(bytes));
+        url = encoded(urlEncoder.encode(bytes));
+        mime = encoded(mimeEncoder.encode(bytes));
+    }
+
+    private Encoded encoded(byte[] bytes) {
+        return new Encoded(bytes, wrap(bytes));
+    }
+
+    private ByteBuffer wrap(byte[] bytes) {
+        return switch (buffer) {
+            case "array" -> null;
+            case "heap" -> ByteBuffer.wrap(bytes.clone());
+            case "direct" -> ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+            default -> throw new IllegalArgumentException("Unknown buffer kind: " + buffer);
+        };
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Throughput {
+        long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+
+        /** Input bytes processed, in MB; reported by JMH as MB/s. */
+        public double megabytes() {
+            return bytes / (1024.0 * 1024.0);
+        }
+    }
+
+    // ============================================================
+    // Checksums
+    // ============================================================
+
+    @Benchmark
+    public long benchmarkCRC32(Throughput t) {
+        return checksum(crc32, t);
+    }
+
+    @Benchmark
+    public long benchmarkCRC32C(Throughput t) {
+        return checksum(crc32c, t);
+    }
+
+    @Benchmark
+    public long benchmarkAdler32(Throughput t) {
+        return checksum(adler32, t);
+    }
+
+    private long checksum(Checksum checksum, Throughput t) {
+        checksum.reset();
+        if (data == null) {
+            checksum.update(array, 0, payload);
+        } else {
+            // update(ByteBuffer) consumes the buffer; hand it a view so the source stays readable
+            checksum.update(data.duplicate());
+        }
+        t.bytes += payload;
+        return checksum.getValue();
+    }
+
+    // ============================================================
+    // Base64
+    // ============================================================
+
+    @Benchmark
+    public Object benchmarkBase64Encode(Throughput t) {
+        return encode(basicEncoder, t);
+    }
+
+    @Benchmark
+    public Object benchmarkBase64UrlEncode(Throughput t) {
+        return encode(urlEncoder, t);
+    }
+
+    @Benchmark
+    public Object benchmarkBase64MimeEncode(Throughput t) {
+        return encode(mimeEncoder, t);
+    }
+
+    @Benchmark
+    public Object benchmarkBase64Decode(Throughput t) {
+        return decode(basicDecoder, basic, t);
+    }
+
+    @Benchmark
+    public Object benchmarkBase64UrlDecode(Throughput t) {
+        return decode(urlDecoder, url, t);
+    }
+
+    @Benchmark
+    public Object benchmarkBase64MimeDecode(Throughput t) {
+        return decode(mimeDecoder, mime, t);
+    }
+
+    private Object encode(Base64.Encoder encoder, Throughput t) {
+        t.bytes += payload;
+        if (data == null) {
+            return encoder.encode(array, encodeOutput);
+        }
+        return encoder.encode(data.duplicate());
+    }
+
+    private Object decode(Base64.Decoder decoder, Encoded input, Throughput t) {
+        t.bytes += input.array().length;
+        if (input.buffer() == null) {
+            return decoder.decode(input.array(), decodeOutput);
+        }
+        return decoder.decode(input.buffer().duplicate());
+    }
+}
@@ -0,0 +1,140 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boxed JDK collections head-to-head with the in-project primitive ones.
+ * Each pair does the same work as {@code benchmarkMapOperations*},
+ * {@code benchmarkConcurrentHashMap} or the list in {@code generatePrimes}:
+ * fill with {@code size} sequential keys, then read every one back.
+ *
+ * <p>Run with {@code -prof gc} to get bytes allocated per op
+ * ({@code gc.alloc.rate.norm}) next to the throughput score.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CollectionBenchmarks {
+
+    @Param({"1000", "10000", "1000000"})
+    public int size;
+
+    // ============================================================
+    // int -> Object
+    // ============================================================
+
+    @Benchmark
+    public int benchmarkHashMapBoxed() {
+        Map<Integer, String> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(i, "value");
+        }
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            if (map.get(i) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int benchmarkConcurrentHashMapBoxed() {
+        Map<Integer, String> map = new ConcurrentHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(i, "value");
+        }
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            if (map.get(i) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int benchmarkIntObjectMap() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(i, "value");
+        }
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            if (map.get(i) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    // ============================================================
+    // int -> int
+    // ============================================================
+
+    @Benchmark
+    public long benchmarkHashMapIntIntBoxed() {
+        Map<Integer, Integer> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(i, i * 31);
+        }
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += map.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long benchmarkIntIntMap() {
+        IntIntMap map = new IntIntMap();
+        for (int i = 0; i < size; i++) {
+            map.put(i, i * 31);
+        }
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += map.get(i);
+        }
+        return sum;
+    }
+
+    // ============================================================
+    // List of int
+    // ============================================================
+
+    @Benchmark
+    public long benchmarkArrayListBoxed() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        long sum = 0;
+        for (int i = 0; i < list.size(); i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long benchmarkIntArrayList() {
+        IntArrayList list = new IntArrayList();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        long sum = 0;
+        for (int i = 0; i < list.size(); i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+}
@@ -3,10 +3,17 @@ package benchmark;
 import org.openjdk.jmh.annotations.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.Serializable;
 import java.security.MessageDigest;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
 
 @State(Scope.Benchmark)
 @BenchmarkMode(Mode.Throughput)
@@ -18,24 +25,6 @@ public class CompleteBenchmarks {
 
     private Random random = new Random(42);
     private ObjectMapper objectMapper = new ObjectMapper();
-    private ExecutorService executorService;
-
-    @Setup(Level.Trial)
-    public void setupExecutor() {
-        executorService = Executors.newFixedThreadPool(100);
-    }
-
-    @TearDown(Level.Trial)
-    public void tearDownExecutor() {
-        executorService.shutdown();
-        try {
-            if (!executorService.awaitTermination(60, TimeUnit.SECONDS)) {
-                executorService.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            executorService.shutdownNow();
-        }
-    }
 
     // ============================================================
     // CPU-Intensive Benchmarks
@@ -218,13 +207,18 @@ public class CompleteBenchmarks {
     // JSON Serialization
     // ============================================================
 
-    public static class ComplexData {
+    public static class ComplexData implements Serializable {
+        private static final long serialVersionUID = 1L;
+
         public int id;
         public String name;
         public String email;
         public int age;
         public boolean active;
+        // List and Map are not Serializable types, but the instances are ArrayList and HashMap
+        @SuppressWarnings("serial")
         public List<String> tags;
+        @SuppressWarnings("serial")
         public Map<String, Object> metadata;
 
         public ComplexData() {
@@ -259,6 +253,34 @@ public class CompleteBenchmarks {
         return objectMapper.readValue(jsonString, ComplexData.class);
     }
 
+    /** Per-thread hand-written codec and decode target; {@link ComplexDataCodec} is not thread-safe. */
+    @State(Scope.Thread)
+    public static class CodecState {
+        final ComplexDataCodec codec = new ComplexDataCodec();
+        final ComplexData target = new ComplexData();
+        byte[] json;
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            json = new ObjectMapper().writeValueAsBytes(new ComplexData());
+        }
+    }
+
+    @Benchmark
+    public byte[] benchmarkJSONMarshalBytes() throws Exception {
+        return objectMapper.writeValueAsBytes(testData);
+    }
+
+    @Benchmark
+    public int benchmarkJSONMarshalHandWritten(CodecState s) {
+        return s.codec.encode(testData);
+    }
+
+    @Benchmark
+    public ComplexData benchmarkJSONUnmarshalHandWritten(CodecState s) {
+        return s.codec.decode(s.json, 0, s.json.length, s.target);
+    }
+
     @Benchmark
     public String benchmarkJSONMarshalArray100() throws Exception {
         List<ComplexData> data = new ArrayList<>();
@@ -274,11 +296,13 @@ public class CompleteBenchmarks {
 
     private byte[] smallData = "Hello, World!".getBytes();
     private byte[] largeData;
+    private byte[] largeDataBase64;
 
     @Setup(Level.Trial)
     public void setupCryptoData() {
         largeData = new byte[1024 * 1024];
         random.nextBytes(largeData);
+        largeDataBase64 = Base64.getEncoder().encode(largeData);
     }
 
     @Benchmark
@@ -293,15 +317,87 @@ public class CompleteBenchmarks {
         return digest.digest(largeData);
     }
 
+    // Payload and buffer-kind sweeps of these live in ChecksumBenchmarks
+
+    @Benchmark
+    public long benchmarkCRC32Large() {
+        CRC32 crc = new CRC32();
+        crc.update(largeData);
+        return crc.getValue();
+    }
+
+    @Benchmark
+    public long benchmarkCRC32CLarge() {
+        CRC32C crc = new CRC32C();
+        crc.update(largeData);
+        return crc.getValue();
+    }
+
+    @Benchmark
+    public long benchmarkAdler32Large() {
+        Adler32 adler = new Adler32();
+        adler.update(largeData);
+        return adler.getValue();
+    }
+
+    @Benchmark
+    public byte[] benchmarkBase64EncodeLarge() {
+        return Base64.getEncoder().encode(largeData);
+    }
+
+    @Benchmark
+    public byte[] benchmarkBase64DecodeLarge() {
+        return Base64.getDecoder().decode(largeDataBase64);
+    }
+
     // ============================================================
     // Concurrency Benchmarks
     // ============================================================
 
+    /**
+     * Executor behind the fan-out and queue benchmarks. {@code fixed100} is the
+     * original shared pool; {@code workStealing} is what the JDK factory builds,
+     * an async-mode {@link ForkJoinPool} at nproc, so it should track
+     * {@code forkJoinAsync}.
+     */
+    @State(Scope.Benchmark)
+    public static class ExecutorState {
+        @Param({"fixed100", "fixedNproc", "forkJoinAsync", "workStealing", "virtual"})
+        public String executor;
+
+        ExecutorService service;
+
+        @Setup(Level.Trial)
+        public void setupExecutor() {
+            int nproc = Runtime.getRuntime().availableProcessors();
+            service = switch (executor) {
+                case "fixed100" -> Executors.newFixedThreadPool(100);
+                case "fixedNproc" -> Executors.newFixedThreadPool(nproc);
+                case "forkJoinAsync" -> new ForkJoinPool(nproc, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+                case "workStealing" -> Executors.newWorkStealingPool();
+                case "virtual" -> Executors.newVirtualThreadPerTaskExecutor();
+                default -> throw new IllegalArgumentException("Unknown executor: " + executor);
+            };
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDownExecutor() {
+            service.shutdown();
+            try {
+                if (!service.awaitTermination(60, TimeUnit.SECONDS)) {
+                    service.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                service.shutdownNow();
+            }
+        }
+    }
+
     @Benchmark
-    public void benchmarkThreads10() throws Exception {
+    public void benchmarkThreads10(ExecutorState executor) throws Exception {
         CountDownLatch latch = new CountDownLatch(10);
         for (int i = 0; i < 10; i++) {
-            executorService.submit(() -> {
+            executor.service.submit(() -> {
                 try {
                     int sum = 0;
                     for (int k = 0; k < 10000; k++) {
@@ -316,10 +412,10 @@ public class CompleteBenchmarks {
     }
 
     @Benchmark
-    public void benchmarkThreads100() throws Exception {
+    public void benchmarkThreads100(ExecutorState executor) throws Exception {
         CountDownLatch latch = new CountDownLatch(100);
         for (int i = 0; i < 100; i++) {
-            executorService.submit(() -> {
+            executor.service.submit(() -> {
                 try {
                     int sum = 0;
                     for (int k = 0; k < 1000; k++) {
@@ -334,10 +430,10 @@ public class CompleteBenchmarks {
     }
 
     @Benchmark
-    public void benchmarkThreads1000() throws Exception {
+    public void benchmarkThreads1000(ExecutorState executor) throws Exception {
         CountDownLatch latch = new CountDownLatch(1000);
         for (int i = 0; i < 1000; i++) {
-            executorService.submit(() -> {
+            executor.service.submit(() -> {
                 try {
                     int sum = 0;
                     for (int k = 0; k < 100; k++) {
@@ -352,11 +448,11 @@ public class CompleteBenchmarks {
     }
 
     @Benchmark
-    public void benchmarkBlockingQueueOperations() throws Exception {
+    public void benchmarkBlockingQueueOperations(ExecutorState executor) throws Exception {
         BlockingQueue<Integer> queue = new ArrayBlockingQueue<>(100);
         CountDownLatch latch = new CountDownLatch(2);
         
-        executorService.submit(() -> {
+        executor.service.submit(() -> {
             try {
                 for (int j = 0; j < 100; j++) {
                     queue.put(j);
@@ -368,7 +464,7 @@ public class CompleteBenchmarks {
             }
         });
         
-        executorService.submit(() -> {
+        executor.service.submit(() -> {
             try {
                 for (int j = 0; j < 100; j++) {
                     queue.take();
@@ -383,6 +479,147 @@ public class CompleteBenchmarks {
         latch.await();
     }
 
+    /**
+     * Lock behind the Go-paired mutex benchmarks. Every kind is used exclusively
+     * by {@code benchmarkMutexContention}; in {@code benchmarkRWMutexReadHeavy}
+     * {@code readWrite} readers share the read lock and {@code stamped} readers
+     * try an optimistic read first, falling back to the read lock if a write
+     * intervened.
+     */
+    @State(Scope.Benchmark)
+    public static class LockState {
+        private static final int KEYS = 100;
+
+        enum Kind { SYNCHRONIZED, REENTRANT, READ_WRITE, STAMPED }
+
+        @Param({"synchronized", "reentrantUnfair", "reentrantFair", "readWrite", "stamped"})
+        public String lock;
+
+        Kind kind;
+        final Object monitor = new Object();
+        ReentrantLock reentrant;
+        final ReentrantReadWriteLock readWrite = new ReentrantReadWriteLock();
+        final StampedLock stamped = new StampedLock();
+        final int[] data = new int[KEYS];
+
+        @Setup(Level.Trial)
+        public void setupLock() {
+            kind = switch (lock) {
+                case "synchronized" -> Kind.SYNCHRONIZED;
+                case "reentrantUnfair", "reentrantFair" -> Kind.REENTRANT;
+                case "readWrite" -> Kind.READ_WRITE;
+                case "stamped" -> Kind.STAMPED;
+                default -> throw new IllegalArgumentException("Unknown lock: " + lock);
+            };
+            reentrant = new ReentrantLock(lock.equals("reentrantFair"));
+            for (int i = 0; i < KEYS; i++) {
+                data[i] = i;
+            }
+        }
+
+        int read(int key) {
+            switch (kind) {
+                case SYNCHRONIZED -> {
+                    synchronized (monitor) {
+                        return data[key];
+                    }
+                }
+                case REENTRANT -> {
+                    reentrant.lock();
+                    try {
+                        return data[key];
+                    } finally {
+                        reentrant.unlock();
+                    }
+                }
+                case READ_WRITE -> {
+                    readWrite.readLock().lock();
+                    try {
+                        return data[key];
+                    } finally {
+                        readWrite.readLock().unlock();
+                    }
+                }
+                default -> {
+                    long stamp = stamped.tryOptimisticRead();
+                    int value = data[key];
+                    if (stamped.validate(stamp)) {
+                        return value;
+                    }
+                    stamp = stamped.readLock();
+                    try {
+                        return data[key];
+                    } finally {
+                        stamped.unlockRead(stamp);
+                    }
+                }
+            }
+        }
+
+        void write(int key) {
+            switch (kind) {
+                case SYNCHRONIZED -> {
+                    synchronized (monitor) {
+                        data[key]++;
+                    }
+                }
+                case REENTRANT -> {
+                    reentrant.lock();
+                    try {
+                        data[key]++;
+                    } finally {
+                        reentrant.unlock();
+                    }
+                }
+                case READ_WRITE -> {
+                    readWrite.writeLock().lock();
+                    try {
+                        data[key]++;
+                    } finally {
+                        readWrite.writeLock().unlock();
+                    }
+                }
+                default -> {
+                    long stamp = stamped.writeLock();
+                    try {
+                        data[key]++;
+                    } finally {
+                        stamped.unlockWrite(stamp);
+                    }
+                }
+            }
+        }
+    }
+
+    /** Share of {@code benchmarkRWMutexReadHeavy} ops that read; the rest write. */
+    @State(Scope.Benchmark)
+    public static class ReadMix {
+        @Param({"50", "90", "99"})
+        public int readPercent;
+    }
+
+    // Threads.MAX mirrors Go's RunParallel (one worker per GOMAXPROCS);
+    // run_java_benchmarks.sh also sweeps -t up to 2x cores into java_scaling_locks.tsv
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void benchmarkMutexContention(LockState lock) {
+        // Go increments one shared counter; key 0 is ours
+        lock.write(0);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int benchmarkRWMutexReadHeavy(LockState lock, ReadMix mix) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int key = random.nextInt(LockState.KEYS);
+        if (random.nextInt(100) < mix.readPercent) {
+            return lock.read(key);
+        }
+        lock.write(key);
+        return key;
+    }
+
     private AtomicInteger atomicCounter = new AtomicInteger(0);
 
     @Benchmark
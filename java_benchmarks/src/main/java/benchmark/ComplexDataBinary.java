@@ -0,0 +1,163 @@
+package benchmark;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hand-rolled binary layout for {@link CompleteBenchmarks.ComplexData}, shared
+ * by the {@code DataOutputStream} and {@link Externalizable} formats.
+ *
+ * <p>Fields are written in declaration order: {@code id}, {@code name},
+ * {@code email}, {@code age}, {@code active}, then {@code tags} and
+ * {@code metadata} as a length (-1 for null) followed by their elements.
+ * Strings use modified UTF-8 behind a presence byte; metadata values carry a
+ * one-byte type tag.
+ */
+public final class ComplexDataBinary {
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte DOUBLE = 5;
+
+    private ComplexDataBinary() {
+    }
+
+    public static void write(CompleteBenchmarks.ComplexData data, DataOutput out) throws IOException {
+        out.writeInt(data.id);
+        writeString(data.name, out);
+        writeString(data.email, out);
+        out.writeInt(data.age);
+        out.writeBoolean(data.active);
+        if (data.tags == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(data.tags.size());
+            for (String tag : data.tags) {
+                writeString(tag, out);
+            }
+        }
+        if (data.metadata == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(data.metadata.size());
+            for (Map.Entry<String, Object> e : data.metadata.entrySet()) {
+                writeString(e.getKey(), out);
+                writeValue(e.getValue(), out);
+            }
+        }
+    }
+
+    public static CompleteBenchmarks.ComplexData read(DataInput in) throws IOException {
+        return read(in, new CompleteBenchmarks.ComplexData());
+    }
+
+    /** Reads into {@code target}, replacing all of its fields. */
+    public static <T extends CompleteBenchmarks.ComplexData> T read(DataInput in, T target) throws IOException {
+        target.id = in.readInt();
+        target.name = readString(in);
+        target.email = readString(in);
+        target.age = in.readInt();
+        target.active = in.readBoolean();
+        int tagCount = in.readInt();
+        if (tagCount < 0) {
+            target.tags = null;
+        } else {
+            List<String> tags = new ArrayList<>(tagCount);
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(readString(in));
+            }
+            target.tags = tags;
+        }
+        int entryCount = in.readInt();
+        if (entryCount < 0) {
+            target.metadata = null;
+        } else {
+            Map<String, Object> metadata = new HashMap<>();
+            for (int i = 0; i < entryCount; i++) {
+                String key = readString(in);
+                metadata.put(key, readValue(in));
+            }
+            target.metadata = metadata;
+        }
+        return target;
+    }
+
+    private static void writeString(String s, DataOutput out) throws IOException {
+        out.writeBoolean(s != null);
+        if (s != null) {
+            out.writeUTF(s);
+        }
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeValue(Object value, DataOutput out) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String s) {
+            out.writeByte(STRING);
+            out.writeUTF(s);
+        } else if (value instanceof Integer i) {
+            out.writeByte(INT);
+            out.writeInt(i);
+        } else if (value instanceof Long l) {
+            out.writeByte(LONG);
+            out.writeLong(l);
+        } else if (value instanceof Boolean b) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean(b);
+        } else if (value instanceof Number n) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(n.doubleValue());
+        } else {
+            throw new IOException("Unsupported metadata value type: " + value.getClass().getName());
+        }
+    }
+
+    private static Object readValue(DataInput in) throws IOException {
+        byte type = in.readByte();
+        return switch (type) {
+            case NULL -> null;
+            case STRING -> in.readUTF();
+            case INT -> in.readInt();
+            case LONG -> in.readLong();
+            case BOOLEAN -> in.readBoolean();
+            case DOUBLE -> in.readDouble();
+            default -> throw new IOException("Unknown metadata value type tag: " + type);
+        };
+    }
+
+    /**
+     * {@code ComplexData} that serializes through {@link ComplexDataBinary}
+     * instead of default field-by-field Java serialization.
+     */
+    public static class ExternalizableData extends CompleteBenchmarks.ComplexData implements Externalizable {
+        private static final long serialVersionUID = 1L;
+
+        public ExternalizableData() {
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            write(this, out);
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException {
+            read(in, this);
+        }
+    }
+}
@@ -0,0 +1,609 @@
+package benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Reflection-free JSON codec for {@link CompleteBenchmarks.ComplexData}.
+ *
+ * <p>{@link #encode} writes UTF-8 straight into a reusable byte array, with no
+ * intermediate {@code String} or {@code char[]}, producing the same bytes as
+ * Jackson's default {@code ObjectMapper}; once the buffer has grown it
+ * allocates nothing. {@link #decode} scans UTF-8 bytes with a cursor, matches
+ * field names byte-wise, and fills a caller-supplied instance, so the only
+ * allocations are the decoded strings and the boxed metadata values.
+ *
+ * <p>Instances keep their buffers between calls and are not thread-safe.
+ */
+public final class ComplexDataCodec {
+
+    private static final byte[] ID = field("id");
+    private static final byte[] NAME = field("name");
+    private static final byte[] EMAIL = field("email");
+    private static final byte[] AGE = field("age");
+    private static final byte[] ACTIVE = field("active");
+    private static final byte[] TAGS = field("tags");
+    private static final byte[] METADATA = field("metadata");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] HEX = ascii("0123456789ABCDEF");
+
+    private byte[] out = new byte[256];
+    private int count;
+
+    private byte[] in;
+    private int pos;
+    /** Exclusive bound of the object being decoded; no scan reads at or past it. */
+    private int end;
+    private final StringBuilder escaped = new StringBuilder();
+
+    // ============================================================
+    // Encode
+    // ============================================================
+
+    /** Encodes {@code data} into {@link #buffer()} and returns the encoded length. */
+    public int encode(CompleteBenchmarks.ComplexData data) {
+        count = 0;
+        writeByte('{');
+        writeRaw(ID);
+        writeLong(data.id);
+        writeByte(',');
+        writeRaw(NAME);
+        writeString(data.name);
+        writeByte(',');
+        writeRaw(EMAIL);
+        writeString(data.email);
+        writeByte(',');
+        writeRaw(AGE);
+        writeLong(data.age);
+        writeByte(',');
+        writeRaw(ACTIVE);
+        writeRaw(data.active ? TRUE : FALSE);
+        writeByte(',');
+        writeRaw(TAGS);
+        if (data.tags == null) {
+            writeRaw(NULL);
+        } else {
+            writeByte('[');
+            for (int i = 0; i < data.tags.size(); i++) {
+                if (i > 0) {
+                    writeByte(',');
+                }
+                writeString(data.tags.get(i));
+            }
+            writeByte(']');
+        }
+        writeByte(',');
+        writeRaw(METADATA);
+        if (data.metadata == null) {
+            writeRaw(NULL);
+        } else {
+            writeByte('{');
+            boolean first = true;
+            for (Map.Entry<String, Object> e : data.metadata.entrySet()) {
+                if (!first) {
+                    writeByte(',');
+                }
+                first = false;
+                writeString(e.getKey());
+                writeByte(':');
+                writeValue(e.getValue());
+            }
+            writeByte('}');
+        }
+        writeByte('}');
+        return count;
+    }
+
+    /** Encodes {@code data} and copies it into {@code target} at its position. */
+    public ByteBuffer encode(CompleteBenchmarks.ComplexData data, ByteBuffer target) {
+        int length = encode(data);
+        return target.put(out, 0, length);
+    }
+
+    /** The encode buffer; valid up to the length returned by the last {@link #encode} call. */
+    public byte[] buffer() {
+        return out;
+    }
+
+    private void writeValue(Object value) {
+        if (value == null) {
+            writeRaw(NULL);
+        } else if (value instanceof String s) {
+            writeString(s);
+        } else if (value instanceof Boolean b) {
+            writeRaw(b ? TRUE : FALSE);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            writeLong(((Number) value).longValue());
+        } else if (value instanceof Number n) {
+            writeAscii(n.toString());
+        } else {
+            writeString(value.toString());
+        }
+    }
+
+    private void writeString(String s) {
+        if (s == null) {
+            writeRaw(NULL);
+            return;
+        }
+        // Worst case is 6 bytes per char (\\uXXXX); one check covers the whole string
+        ensure(s.length() * 6 + 2);
+        byte[] buf = out;
+        int n = count;
+        buf[n++] = '"';
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    buf[n++] = (byte) c;
+                } else {
+                    n = writeEscape(buf, n, c);
+                }
+            } else if (c < 0x800) {
+                buf[n++] = (byte) (0xC0 | (c >> 6));
+                buf[n++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Jackson escapes surrogates rather than combining them into 4-byte UTF-8
+                n = writeEscape(buf, n, c);
+            } else {
+                buf[n++] = (byte) (0xE0 | (c >> 12));
+                buf[n++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[n++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        buf[n++] = '"';
+        count = n;
+    }
+
+    private static int writeEscape(byte[] buf, int n, char c) {
+        buf[n++] = '\\';
+        switch (c) {
+            case '"' -> buf[n++] = '"';
+            case '\\' -> buf[n++] = '\\';
+            case '\n' -> buf[n++] = 'n';
+            case '\r' -> buf[n++] = 'r';
+            case '\t' -> buf[n++] = 't';
+            case '\b' -> buf[n++] = 'b';
+            case '\f' -> buf[n++] = 'f';
+            default -> {
+                buf[n++] = 'u';
+                buf[n++] = HEX[c >> 12];
+                buf[n++] = HEX[(c >> 8) & 0xF];
+                buf[n++] = HEX[(c >> 4) & 0xF];
+                buf[n++] = HEX[c & 0xF];
+            }
+        }
+        return n;
+    }
+
+    private void writeLong(long value) {
+        ensure(20);
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        if (value < 0) {
+            out[count++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        int end = count + digits;
+        for (int i = end - 1; i >= count; i--) {
+            out[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        count = end;
+    }
+
+    private void writeAscii(String s) {
+        ensure(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            out[count++] = (byte) s.charAt(i);
+        }
+    }
+
+    private void writeRaw(byte[] bytes) {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, out, count, bytes.length);
+        count += bytes.length;
+    }
+
+    private void writeByte(char c) {
+        ensure(1);
+        out[count++] = (byte) c;
+    }
+
+    private void ensure(int extra) {
+        if (count + extra > out.length) {
+            byte[] grown = new byte[Math.max(out.length * 2, count + extra)];
+            System.arraycopy(out, 0, grown, 0, count);
+            out = grown;
+        }
+    }
+
+    // ============================================================
+    // Decode
+    // ============================================================
+
+    /**
+     * Decodes one JSON object from {@code json[offset, offset + length)} into
+     * {@code target}, reusing its {@code ArrayList} tags and {@code HashMap}
+     * metadata when present. Fields missing from the input keep their values.
+     *
+     * @throws IllegalArgumentException if the input is not a well-formed object
+     *         or ends before the object does
+     */
+    public CompleteBenchmarks.ComplexData decode(byte[] json, int offset, int length,
+                                                 CompleteBenchmarks.ComplexData target) {
+        Objects.checkFromIndexSize(offset, length, json.length);
+        in = json;
+        pos = offset;
+        end = offset + length;
+        try {
+            skipWhitespace();
+            expect('{');
+            skipWhitespace();
+            if (peek() == '}') {
+                pos++;
+                return target;
+            }
+            while (true) {
+                skipWhitespace();
+                expect('"');
+                int nameStart = pos;
+                skipStringBody();
+                int nameEnd = pos - 1;
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                readField(nameStart, nameEnd, target);
+                skipWhitespace();
+                byte b = next();
+                if (b == '}') {
+                    break;
+                }
+                if (b != ',') {
+                    throw error("expected ',' or '}'");
+                }
+            }
+            return target;
+        } finally {
+            in = null;
+        }
+    }
+
+    /** Decodes {@code json} into a new instance. */
+    public CompleteBenchmarks.ComplexData decode(byte[] json) {
+        return decode(json, 0, json.length, new CompleteBenchmarks.ComplexData());
+    }
+
+    private void readField(int start, int end, CompleteBenchmarks.ComplexData target) {
+        if (nameEquals(start, end, ID)) {
+            target.id = (int) readLong();
+        } else if (nameEquals(start, end, NAME)) {
+            target.name = readStringOrNull();
+        } else if (nameEquals(start, end, EMAIL)) {
+            target.email = readStringOrNull();
+        } else if (nameEquals(start, end, AGE)) {
+            target.age = (int) readLong();
+        } else if (nameEquals(start, end, ACTIVE)) {
+            target.active = readBoolean();
+        } else if (nameEquals(start, end, TAGS)) {
+            target.tags = readTags(target.tags);
+        } else if (nameEquals(start, end, METADATA)) {
+            target.metadata = readMetadata(target.metadata);
+        } else {
+            skipValue();
+        }
+    }
+
+    /** Compares the raw field name bytes with a precomputed {@code "name":} constant. */
+    private boolean nameEquals(int start, int end, byte[] field) {
+        int length = end - start;
+        if (length != field.length - 3) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (in[start + i] != field[i + 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<String> readTags(List<String> reuse) {
+        if (tryLiteral(NULL)) {
+            return null;
+        }
+        List<String> tags;
+        if (reuse instanceof ArrayList<String> list) {
+            list.clear();
+            tags = list;
+        } else {
+            tags = new ArrayList<>();
+        }
+        expect('[');
+        skipWhitespace();
+        if (peek() == ']') {
+            pos++;
+            return tags;
+        }
+        while (true) {
+            skipWhitespace();
+            tags.add(readStringOrNull());
+            skipWhitespace();
+            byte b = next();
+            if (b == ']') {
+                return tags;
+            }
+            if (b != ',') {
+                throw error("expected ',' or ']'");
+            }
+        }
+    }
+
+    private Map<String, Object> readMetadata(Map<String, Object> reuse) {
+        if (tryLiteral(NULL)) {
+            return null;
+        }
+        Map<String, Object> metadata;
+        if (reuse instanceof HashMap<String, Object> map) {
+            map.clear();
+            metadata = map;
+        } else {
+            metadata = new HashMap<>();
+        }
+        expect('{');
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            return metadata;
+        }
+        while (true) {
+            skipWhitespace();
+            String key = readString();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            metadata.put(key, readScalar());
+            skipWhitespace();
+            byte b = next();
+            if (b == '}') {
+                return metadata;
+            }
+            if (b != ',') {
+                throw error("expected ',' or '}'");
+            }
+        }
+    }
+
+    /** Strings, numbers, booleans and null; nested values are skipped and read as null. */
+    private Object readScalar() {
+        byte b = peek();
+        if (b == '"') {
+            return readString();
+        }
+        if (b == 't' || b == 'f') {
+            return readBoolean();
+        }
+        if (tryLiteral(NULL)) {
+            return null;
+        }
+        if (b == '-' || (b >= '0' && b <= '9')) {
+            int start = pos;
+            long value = readLong();
+            if (pos < end && (in[pos] == '.' || in[pos] == 'e' || in[pos] == 'E')) {
+                pos = start;
+                skipNumber();
+                return Double.parseDouble(new String(in, start, pos - start, StandardCharsets.US_ASCII));
+            }
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                return (int) value;
+            }
+            return value;
+        }
+        skipValue();
+        return null;
+    }
+
+    private long readLong() {
+        boolean negative = false;
+        if (peek() == '-') {
+            negative = true;
+            pos++;
+        }
+        int start = pos;
+        long value = 0;
+        while (pos < end && in[pos] >= '0' && in[pos] <= '9') {
+            value = value * 10 + (in[pos++] - '0');
+        }
+        if (pos == start) {
+            throw error("expected a number");
+        }
+        return negative ? -value : value;
+    }
+
+    private boolean readBoolean() {
+        if (tryLiteral(TRUE)) {
+            return true;
+        }
+        if (tryLiteral(FALSE)) {
+            return false;
+        }
+        throw error("expected true or false");
+    }
+
+    private String readStringOrNull() {
+        return tryLiteral(NULL) ? null : readString();
+    }
+
+    /** Reads a quoted string; unescaped input decodes straight from the byte range. */
+    private String readString() {
+        expect('"');
+        int start = pos;
+        byte[] buf = in;
+        for (int n = start; n < end; n++) {
+            byte b = buf[n];
+            if (b == '"') {
+                pos = n + 1;
+                return new String(buf, start, n - start, StandardCharsets.UTF_8);
+            }
+            if (b == '\\') {
+                return readEscapedString();
+            }
+        }
+        pos = end;
+        throw error("unexpected end of input");
+    }
+
+    private String readEscapedString() {
+        StringBuilder sb = escaped;
+        sb.setLength(0);
+        while (true) {
+            int runStart = pos;
+            byte b;
+            while ((b = peek()) != '"' && b != '\\') {
+                pos++;
+            }
+            if (pos > runStart) {
+                sb.append(new String(in, runStart, pos - runStart, StandardCharsets.UTF_8));
+            }
+            if (next() == '"') {
+                return sb.toString();
+            }
+            byte e = next();
+            switch (e) {
+                case '"' -> sb.append('"');
+                case '\\' -> sb.append('\\');
+                case '/' -> sb.append('/');
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                case 't' -> sb.append('\t');
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'u' -> {
+                    if (pos + 4 > end) {
+                        pos = end;
+                        throw error("unexpected end of input");
+                    }
+                    sb.append((char) Integer.parseInt(new String(in, pos, 4, StandardCharsets.US_ASCII), 16));
+                    pos += 4;
+                }
+                default -> throw error("invalid escape");
+            }
+        }
+    }
+
+    private void skipValue() {
+        byte b = peek();
+        if (b == '"') {
+            pos++;
+            skipStringBody();
+        } else if (b == '{' || b == '[') {
+            int depth = 0;
+            do {
+                byte c = next();
+                if (c == '"') {
+                    skipStringBody();
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                }
+            } while (depth > 0);
+        } else if (b == '-' || (b >= '0' && b <= '9')) {
+            skipNumber();
+        } else if (!tryLiteral(TRUE) && !tryLiteral(FALSE) && !tryLiteral(NULL)) {
+            throw error("unexpected value");
+        }
+    }
+
+    /** Advances past the closing quote; the cursor must be just after the opening one. */
+    private void skipStringBody() {
+        while (true) {
+            byte b = next();
+            if (b == '"') {
+                return;
+            }
+            if (b == '\\') {
+                pos++;
+            }
+        }
+    }
+
+    private void skipNumber() {
+        while (pos < end) {
+            byte b = in[pos];
+            if ((b >= '0' && b <= '9') || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E') {
+                pos++;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private boolean tryLiteral(byte[] literal) {
+        if (pos + literal.length > end) {
+            return false;
+        }
+        for (int i = 0; i < literal.length; i++) {
+            if (in[pos + i] != literal[i]) {
+                return false;
+            }
+        }
+        pos += literal.length;
+        return true;
+    }
+
+    private void skipWhitespace() {
+        while (pos < end) {
+            byte b = in[pos];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private byte peek() {
+        if (pos >= end) {
+            throw error("unexpected end of input");
+        }
+        return in[pos];
+    }
+
+    private byte next() {
+        byte b = peek();
+        pos++;
+        return b;
+    }
+
+    private void expect(char c) {
+        if (peek() != c) {
+            throw error("expected '" + c + "'");
+        }
+        pos++;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at offset " + pos);
+    }
+
+    private static byte[] field(String name) {
+        return ascii("\"" + name + "\":");
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
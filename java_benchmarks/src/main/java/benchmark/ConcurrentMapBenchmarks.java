@@ -0,0 +1,206 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A shared, prepopulated {@link ConcurrentHashMap} of {@code keys} entries
+ * under concurrent load, shaped like a session cache: {@code lookup} threads
+ * only {@code get}, while {@code request} threads run the {@code mix}:
+ *
+ * <ul>
+ *   <li>{@code getOnly} - 100% get</li>
+ *   <li>{@code 95-5} and {@code 50-50} - get/put, put overwriting an existing key</li>
+ *   <li>{@code computeMerge} - 20% get, 40% {@code merge}, 40% {@code compute}</li>
+ * </ul>
+ *
+ * <p>Keys are drawn {@code uniform} or {@code zipfian} (theta 0.99, so a few
+ * hot keys take most of the traffic and their bins contend). Uniform keys and
+ * every op come from a per-thread xorshift generator, a few cycles per draw.
+ * Zipfian ranks cost a {@code Math.pow} each, so every thread replays its own
+ * pre-drawn sequence of them, at least {@code keys} long so the tail of the key
+ * space is actually visited.
+ *
+ * <p>{@code benchmarkSessionCache} reports ops/s per role with one op per
+ * invocation. {@code benchmarkSessionCacheLatency} runs the same roles in
+ * {@code SampleTime} mode over batches of {@value #SAMPLE_BATCH} ops, because
+ * one ~20ns get is too close to the cost of the clock read; its p50 to p99.99
+ * are per-op times averaged over each batch. Change the 2+2 split with
+ * {@code -tg}; 10M keys may need {@code -jvmArgsAppend -Xmx2g} on small
+ * machines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConcurrentMapBenchmarks {
+
+    private static final int SAMPLE_BATCH = 16;
+    private static final double ZIPF_THETA = 0.99;
+
+    private static final byte GET = 0;
+    private static final byte PUT = 1;
+    private static final byte MERGE = 2;
+    private static final byte COMPUTE = 3;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int keys;
+
+    @Param({"uniform", "zipfian"})
+    public String distribution;
+
+    @Param({"getOnly", "95-5", "50-50", "computeMerge"})
+    public String mix;
+
+    private ConcurrentHashMap<Long, Long> map;
+    /** Boxed keys, so no op allocates one. */
+    private Long[] keyObjects;
+    private ZipfianGenerator zipfian;
+    /** Op for each percentile of the mix, so drawing an op is one array load. */
+    private final byte[] ops = new byte[100];
+
+    @Setup(Level.Trial)
+    public void setup() {
+        keyObjects = new Long[keys];
+        map = new ConcurrentHashMap<>(keys * 2);
+        for (int i = 0; i < keys; i++) {
+            keyObjects[i] = (long) i;
+            map.put(keyObjects[i], keyObjects[i]);
+        }
+        zipfian = switch (distribution) {
+            case "uniform" -> null;
+            case "zipfian" -> new ZipfianGenerator(keys, ZIPF_THETA);
+            default -> throw new IllegalArgumentException("Unknown distribution: " + distribution);
+        };
+        for (int p = 0; p < ops.length; p++) {
+            ops[p] = opFor(mix, p);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        map = null;
+        keyObjects = null;
+    }
+
+    /** Op for a percentile {@code p} in [0, 100) of the mix. */
+    private static byte opFor(String mix, int p) {
+        return switch (mix) {
+            case "getOnly" -> GET;
+            case "95-5" -> p < 95 ? GET : PUT;
+            case "50-50" -> p < 50 ? GET : PUT;
+            case "computeMerge" -> p < 20 ? GET : p < 60 ? MERGE : COMPUTE;
+            default -> throw new IllegalArgumentException("Unknown mix: " + mix);
+        };
+    }
+
+    /** One thread's random source: an xorshift64* state and, for Zipfian keys, its replayed ranks. */
+    @State(Scope.Thread)
+    public static class Stream {
+        long state;
+        int[] ranks;
+        int cursor;
+
+        @Setup(Level.Trial)
+        public void setup(ConcurrentMapBenchmarks b) {
+            SplittableRandom random = new SplittableRandom(Thread.currentThread().threadId());
+            state = random.nextLong() | 1;
+            if (b.zipfian != null) {
+                ranks = new int[Integer.highestOneBit(Math.max(b.keys, 1 << 16) - 1) << 1];
+                for (int i = 0; i < ranks.length; i++) {
+                    ranks[i] = (int) b.zipfian.next(random);
+                }
+            }
+        }
+
+        long next() {
+            long x = state;
+            x ^= x >>> 12;
+            x ^= x << 25;
+            x ^= x >>> 27;
+            state = x;
+            return x * 0x2545F4914F6CDD1DL;
+        }
+    }
+
+    /** Key for a draw {@code r}: its high half scaled to [0, keys), or the next replayed Zipfian rank. */
+    private Long key(Stream s, long r) {
+        int index = s.ranks != null
+                ? s.ranks[s.cursor++ & (s.ranks.length - 1)]
+                : (int) (((r >>> 32) * keys) >>> 32);
+        return keyObjects[index];
+    }
+
+    /** Op for a draw {@code r}, from its low half. */
+    private byte op(long r) {
+        return ops[(int) (((r & 0xFFFFFFFFL) * 100) >>> 32)];
+    }
+
+    private Long apply(byte op, Long key) {
+        return switch (op) {
+            case GET -> map.get(key);
+            case PUT -> map.put(key, key);
+            case MERGE -> map.merge(key, 1L, Long::sum);
+            default -> map.compute(key, (k, v) -> v == null ? 1L : v + 1);
+        };
+    }
+
+    // ============================================================
+    // Session cache group
+    // ============================================================
+
+    @Benchmark
+    @Group("benchmarkSessionCache")
+    @GroupThreads(2)
+    public Long lookup(Stream s) {
+        return map.get(key(s, s.next()));
+    }
+
+    @Benchmark
+    @Group("benchmarkSessionCache")
+    @GroupThreads(2)
+    public Long request(Stream s) {
+        long r = s.next();
+        return apply(op(r), key(s, r));
+    }
+
+    // ============================================================
+    // Session cache group, sampled latency
+    // ============================================================
+
+    @Benchmark
+    @Group("benchmarkSessionCacheLatency")
+    @GroupThreads(2)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(SAMPLE_BATCH)
+    public long lookupSampled(Stream s) {
+        long sum = 0;
+        for (int i = 0; i < SAMPLE_BATCH; i++) {
+            Long value = map.get(key(s, s.next()));
+            sum += value == null ? 0 : value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @Group("benchmarkSessionCacheLatency")
+    @GroupThreads(2)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(SAMPLE_BATCH)
+    public long requestSampled(Stream s) {
+        long sum = 0;
+        for (int i = 0; i < SAMPLE_BATCH; i++) {
+            long r = s.next();
+            Long value = apply(op(r), key(s, r));
+            sum += value == null ? 0 : value;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,110 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * One shared counter incremented by every benchmark thread: {@code AtomicInteger},
+ * {@code AtomicLong}, {@code LongAdder}, {@code LongAccumulator}, the in-project
+ * {@link StripedLongCounter} and a bare {@code VarHandle.getAndAdd} on a field.
+ *
+ * <p>There is no {@code @Threads}: the score is total increments/s at whatever
+ * {@code -t} the run uses, and {@code run_java_benchmarks.sh} sweeps
+ * {@code -t 1,2,4,...,2x cores} into {@code java_scaling_counters.tsv}.
+ * Single-cell counters flatten or collapse as threads are added; striped ones
+ * should keep climbing until the cores run out. {@code -p readEvery=64} makes
+ * every 64th op per thread read the counter as well ({@code get}, {@code sum}
+ * or opaque loads), which is where striping pays for its cheap writes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CounterBenchmarks {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(CounterBenchmarks.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /** Ops per thread between reads of the counter; 0 never reads. */
+    @Param({"0"})
+    public int readEvery;
+
+    private AtomicInteger atomicInteger;
+    private AtomicLong atomicLong;
+    private LongAdder longAdder;
+    private LongAccumulator longAccumulator;
+    private StripedLongCounter striped;
+    @SuppressWarnings("unused")
+    private long value;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        atomicInteger = new AtomicInteger();
+        atomicLong = new AtomicLong();
+        longAdder = new LongAdder();
+        longAccumulator = new LongAccumulator(Long::sum, 0);
+        striped = new StripedLongCounter(4 * Runtime.getRuntime().availableProcessors());
+        value = 0;
+    }
+
+    @State(Scope.Thread)
+    public static class Reads {
+        int ops;
+
+        boolean due(int readEvery) {
+            return readEvery > 0 && ++ops % readEvery == 0;
+        }
+    }
+
+    @Benchmark
+    public long benchmarkAtomicInteger(Reads r) {
+        int v = atomicInteger.incrementAndGet();
+        return r.due(readEvery) ? atomicInteger.get() : v;
+    }
+
+    @Benchmark
+    public long benchmarkAtomicLong(Reads r) {
+        long v = atomicLong.incrementAndGet();
+        return r.due(readEvery) ? atomicLong.get() : v;
+    }
+
+    @Benchmark
+    public long benchmarkLongAdder(Reads r) {
+        longAdder.increment();
+        return r.due(readEvery) ? longAdder.sum() : 0;
+    }
+
+    @Benchmark
+    public long benchmarkLongAccumulator(Reads r) {
+        longAccumulator.accumulate(1);
+        return r.due(readEvery) ? longAccumulator.get() : 0;
+    }
+
+    @Benchmark
+    public long benchmarkStriped(Reads r) {
+        striped.increment();
+        return r.due(readEvery) ? striped.sum() : 0;
+    }
+
+    @Benchmark
+    public long benchmarkVarHandle(Reads r) {
+        long v = (long) VALUE.getAndAdd(this, 1L);
+        return r.due(readEvery) ? (long) VALUE.getOpaque(this) : v;
+    }
+}
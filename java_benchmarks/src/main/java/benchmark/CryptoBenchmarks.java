@@ -0,0 +1,172 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hash, MAC and AEAD throughput over {@code payload} bytes, extending
+ * {@code benchmarkSHA256Small/Large} (13B and 1MB) to the other primitives we
+ * deploy. Digests, MACs and ciphers are created once per thread, so the
+ * numbers are the primitive itself, not provider lookup.
+ *
+ * <p>Encryption uses a fresh nonce per op (AEAD ciphers refuse reuse);
+ * decryption verifies the same ciphertext every time. The {@code megabytes}
+ * counter reports MB/s.
+ *
+ * <p>{@code run_java_benchmarks.sh} runs this class with HotSpot's SHA/AES/
+ * GHASH/ChaCha20/Poly1305 intrinsics on and off and writes the speedup to
+ * {@code java_crypto_intrinsics.tsv}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CryptoBenchmarks {
+
+    private static final int NONCE_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    @Param({"13", "16384", "1048576"})
+    public int payload;
+
+    private byte[] data;
+    private MessageDigest sha256;
+    private MessageDigest sha512;
+    private MessageDigest sha3;
+    private Mac hmac;
+    private SecretKeySpec aesKey;
+    private SecretKeySpec chachaKey;
+    private Cipher aesGcm;
+    private Cipher chacha;
+    private byte[] nonce;
+    private long nonceCounter;
+    private byte[] output;
+    private byte[] aesCiphertext;
+    private byte[] aesNonce;
+    private byte[] chachaCiphertext;
+    private byte[] chachaNonce;
+
+    @Setup(Level.Trial)
+    public void setup() throws GeneralSecurityException {
+        SplittableRandom random = new SplittableRandom(42);
+        data = new byte[payload];
+        random.nextBytes(data);
+        byte[] key = new byte[32];
+        random.nextBytes(key);
+
+        sha256 = MessageDigest.getInstance("SHA-256");
+        sha512 = MessageDigest.getInstance("SHA-512");
+        sha3 = MessageDigest.getInstance("SHA3-256");
+        hmac = Mac.getInstance("HmacSHA256");
+        hmac.init(new SecretKeySpec(key, "HmacSHA256"));
+        aesKey = new SecretKeySpec(key, "AES");
+        chachaKey = new SecretKeySpec(key, "ChaCha20");
+        aesGcm = Cipher.getInstance("AES/GCM/NoPadding");
+        chacha = Cipher.getInstance("ChaCha20-Poly1305");
+        nonce = new byte[NONCE_BYTES];
+        output = new byte[payload + TAG_BITS / 8];
+
+        aesNonce = nextNonce().clone();
+        aesGcm.init(Cipher.ENCRYPT_MODE, aesKey, new GCMParameterSpec(TAG_BITS, aesNonce));
+        aesCiphertext = aesGcm.doFinal(data);
+        chachaNonce = nextNonce().clone();
+        chacha.init(Cipher.ENCRYPT_MODE, chachaKey, new IvParameterSpec(chachaNonce));
+        chachaCiphertext = chacha.doFinal(data);
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Throughput {
+        long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+
+        /** Payload bytes processed, in MB; reported by JMH as MB/s. */
+        public double megabytes() {
+            return bytes / (1024.0 * 1024.0);
+        }
+    }
+
+    // ============================================================
+    // Digests and MAC
+    // ============================================================
+
+    @Benchmark
+    public byte[] benchmarkSHA256(Throughput t) {
+        t.bytes += payload;
+        return sha256.digest(data);
+    }
+
+    @Benchmark
+    public byte[] benchmarkSHA512(Throughput t) {
+        t.bytes += payload;
+        return sha512.digest(data);
+    }
+
+    @Benchmark
+    public byte[] benchmarkSHA3_256(Throughput t) {
+        t.bytes += payload;
+        return sha3.digest(data);
+    }
+
+    @Benchmark
+    public byte[] benchmarkHmacSHA256(Throughput t) {
+        t.bytes += payload;
+        return hmac.doFinal(data);
+    }
+
+    // ============================================================
+    // AEAD ciphers
+    // ============================================================
+
+    @Benchmark
+    public int benchmarkAesGcmEncrypt(Throughput t) throws GeneralSecurityException {
+        aesGcm.init(Cipher.ENCRYPT_MODE, aesKey, new GCMParameterSpec(TAG_BITS, nextNonce()));
+        t.bytes += payload;
+        return aesGcm.doFinal(data, 0, payload, output, 0);
+    }
+
+    @Benchmark
+    public int benchmarkAesGcmDecrypt(Throughput t) throws GeneralSecurityException {
+        aesGcm.init(Cipher.DECRYPT_MODE, aesKey, new GCMParameterSpec(TAG_BITS, aesNonce));
+        t.bytes += payload;
+        return aesGcm.doFinal(aesCiphertext, 0, aesCiphertext.length, output, 0);
+    }
+
+    @Benchmark
+    public int benchmarkChaCha20Poly1305Encrypt(Throughput t) throws GeneralSecurityException {
+        chacha.init(Cipher.ENCRYPT_MODE, chachaKey, new IvParameterSpec(nextNonce()));
+        t.bytes += payload;
+        return chacha.doFinal(data, 0, payload, output, 0);
+    }
+
+    @Benchmark
+    public int benchmarkChaCha20Poly1305Decrypt(Throughput t) throws GeneralSecurityException {
+        chacha.init(Cipher.DECRYPT_MODE, chachaKey, new IvParameterSpec(chachaNonce));
+        t.bytes += payload;
+        return chacha.doFinal(chachaCiphertext, 0, chachaCiphertext.length, output, 0);
+    }
+
+    /** Counter nonce in the last eight bytes; unique per thread state, which owns its key use. */
+    private byte[] nextNonce() {
+        long n = ++nonceCounter;
+        for (int i = 0; i < Long.BYTES; i++) {
+            nonce[NONCE_BYTES - 1 - i] = (byte) (n >>> (8 * i));
+        }
+        return nonce;
+    }
+}
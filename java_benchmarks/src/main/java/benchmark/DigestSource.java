@@ -0,0 +1,82 @@
+package benchmark;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Ways of obtaining a ready-to-use {@link MessageDigest} for one hash:
+ *
+ * <ul>
+ *   <li>{@link #perCall} - {@code MessageDigest.getInstance} every time, paying
+ *       the provider lookup and a fresh instance per hash</li>
+ *   <li>{@link #threadLocal} - one instance per thread, reset and reused</li>
+ *   <li>{@link #cloning} - {@code clone()} of a shared prototype, which skips
+ *       the lookup but still allocates</li>
+ * </ul>
+ *
+ * <p>All three are safe to share between threads.
+ */
+public abstract class DigestSource {
+
+    private DigestSource() {
+    }
+
+    /** A digest in its initial state, owned by the calling thread until it completes a hash. */
+    public abstract MessageDigest get();
+
+    public byte[] digest(byte[] data) {
+        return get().digest(data);
+    }
+
+    public static DigestSource perCall(String algorithm) {
+        newInstance(algorithm);
+        return new DigestSource() {
+            @Override
+            public MessageDigest get() {
+                return newInstance(algorithm);
+            }
+        };
+    }
+
+    public static DigestSource threadLocal(String algorithm) {
+        ThreadLocal<MessageDigest> digests = ThreadLocal.withInitial(() -> newInstance(algorithm));
+        digests.get();
+        return new DigestSource() {
+            @Override
+            public MessageDigest get() {
+                MessageDigest digest = digests.get();
+                // digest() already resets; this covers a caller that abandoned a partial update
+                digest.reset();
+                return digest;
+            }
+        };
+    }
+
+    /** @throws IllegalArgumentException if the provider's implementation is not cloneable */
+    public static DigestSource cloning(String algorithm) {
+        MessageDigest prototype = newInstance(algorithm);
+        try {
+            prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalArgumentException(algorithm + " digest does not support clone()", e);
+        }
+        return new DigestSource() {
+            @Override
+            public MessageDigest get() {
+                try {
+                    return (MessageDigest) prototype.clone();
+                } catch (CloneNotSupportedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+    }
+
+    private static MessageDigest newInstance(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
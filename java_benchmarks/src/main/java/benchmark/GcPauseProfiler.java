@@ -0,0 +1,69 @@
+package benchmark;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JMH profiler reporting each benchmark's stop-the-world pauses as secondary
+ * results: {@code gc.pause.count}, {@code gc.pause.total} and the
+ * {@code p50}/{@code p99}/{@code max} pause in ms. Enable it with
+ * {@code -prof benchmark.GcPauseProfiler}.
+ *
+ * <p>Pauses are collected by a {@link GcPauseRecorder} over all measurement
+ * iterations of the fork, so the percentiles cover the whole trial. JMH sums
+ * a result over iterations, so the distribution is reported once, after the
+ * last measurement iteration, and the other iterations report 0.
+ */
+public final class GcPauseProfiler implements InternalProfiler {
+
+    private GcPauseRecorder pauses;
+    private int measured;
+
+    @Override
+    public String getDescription() {
+        return "Stop-the-world GC pause distribution per benchmark";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        if (pauses == null) {
+            pauses = new GcPauseRecorder();
+        }
+        if (iterationParams.getType() == IterationType.WARMUP) {
+            measured = 0;
+        } else if (measured == 0) {
+            pauses.reset();
+        }
+    }
+
+    @Override
+    public Collection<? extends Result<?>> afterIteration(BenchmarkParams benchmarkParams,
+                                                          IterationParams iterationParams, IterationResult result) {
+        boolean last = iterationParams.getType() == IterationType.MEASUREMENT
+                && ++measured == iterationParams.getCount();
+        double count = last ? pauses.count() : 0;
+        double total = last ? pauses.totalMs() : 0;
+        double p50 = last ? pauses.percentileMs(0.50) : 0;
+        double p99 = last ? pauses.percentileMs(0.99) : 0;
+        double max = last ? pauses.percentileMs(1.0) : 0;
+        if (last) {
+            pauses.close();
+            pauses = null;
+        }
+        return List.of(
+                new ScalarResult("gc.pause.count", count, "#", AggregationPolicy.SUM),
+                new ScalarResult("gc.pause.total", total, "ms", AggregationPolicy.SUM),
+                new ScalarResult("gc.pause.p50", p50, "ms", AggregationPolicy.SUM),
+                new ScalarResult("gc.pause.p99", p99, "ms", AggregationPolicy.SUM),
+                new ScalarResult("gc.pause.max", max, "ms", AggregationPolicy.SUM));
+    }
+}
@@ -0,0 +1,104 @@
+package benchmark;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Collects stop-the-world pause durations from the JVM's GC notifications.
+ *
+ * <p>ZGC and Shenandoah also publish a {@code ... Cycles} bean whose durations
+ * cover whole concurrent cycles; those are skipped, and their {@code ... Pauses}
+ * beans are recorded. {@code G1 Concurrent GC} is kept, since on JDK 21 it
+ * reports the Remark and Cleanup pauses.
+ *
+ * <p>Durations come from {@code GcInfo.getDuration()}, which is whole
+ * milliseconds: sub-millisecond pauses (most ZGC pauses, many young G1
+ * pauses) are recorded as 0 and only their count is meaningful. Use
+ * {@code -Xlog:safepoint} or JFR's {@code jdk.GCPhasePause} events when
+ * those need timing.
+ */
+public final class GcPauseRecorder implements NotificationListener, AutoCloseable {
+
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+    private long[] pausesMs = new long[256];
+    private int count;
+
+    public GcPauseRecorder() {
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (bean instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(this, null, null);
+                emitters.add(emitter);
+            }
+        }
+    }
+
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        String name = info.getGcName();
+        if (name.contains("Cycles")) {
+            return;
+        }
+        record(info.getGcInfo().getDuration());
+    }
+
+    private synchronized void record(long durationMs) {
+        if (count == pausesMs.length) {
+            pausesMs = Arrays.copyOf(pausesMs, count * 2);
+        }
+        pausesMs[count++] = durationMs;
+    }
+
+    public synchronized void reset() {
+        count = 0;
+    }
+
+    public synchronized int count() {
+        return count;
+    }
+
+    public synchronized long totalMs() {
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += pausesMs[i];
+        }
+        return total;
+    }
+
+    /** The {@code p}-th quantile (0 < p <= 1) of the recorded pauses, or 0 if none. */
+    public synchronized long percentileMs(double p) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(pausesMs, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(p * count) - 1;
+        return sorted[Math.max(0, Math.min(index, count - 1))];
+    }
+
+    @Override
+    public void close() {
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(this);
+            } catch (ListenerNotFoundException e) {
+                // already removed
+            }
+        }
+        emitters.clear();
+    }
+}
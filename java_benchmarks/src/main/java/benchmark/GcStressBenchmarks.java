@@ -0,0 +1,92 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GC comparison under a realistic heap: a retained {@link GcWorkload} graph of
+ * {@code liveSetMB} churned in the background at {@code allocRateMBps}.
+ *
+ * <ul>
+ *   <li>{@code benchmarkRequestLatency} - sample-time latency distribution
+ *       (p50/p99/p99.9/max) of a small request that reads the live set and
+ *       allocates short-lived objects, so GC pauses show up as tail latency</li>
+ *   <li>{@code benchmarkChurnThroughput} - unpaced chain replacement; the
+ *       {@code allocatedBytes} counter reports the sustained allocation rate</li>
+ * </ul>
+ *
+ * <p>Run with {@code -prof benchmark.GcPauseProfiler}, as the runner does, to get
+ * the stop-the-world pause count, total and p50/p99/max of each trial as
+ * secondary results. The heap must hold about twice the live set, which
+ * the default 256MB and 1GB fit on the JVM's default heap. 4GB and 8GB are
+ * opt-in with {@code -p liveSetMB=4096 -jvmArgsAppend -Xmx8g} and
+ * {@code -p liveSetMB=8192 -jvmArgsAppend -Xmx16g}; a heap too small for a
+ * live set fails that trial with an OutOfMemoryError.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GcStressBenchmarks {
+
+    /** Node hops each simulated request reads from the live set. */
+    private static final int READ_HOPS = 16;
+
+    @Param({"256", "1024"})
+    public int liveSetMB;
+
+    /** Background allocation rate while measuring; 0 disables the churner. */
+    @Param({"256"})
+    public int allocRateMBps;
+
+    private GcWorkload workload;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        workload = new GcWorkload(liveSetMB * 1024L * 1024L);
+        workload.startChurner(allocRateMBps * 1024L * 1024L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        workload.close();
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadRandom {
+        final SplittableRandom random = new SplittableRandom(42);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Allocated {
+        /** Bytes of chains replaced; reported by JMH as bytes per second. */
+        public long allocatedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            allocatedBytes = 0;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public CompleteBenchmarks.ComplexData benchmarkRequestLatency(ThreadRandom t) {
+        long sum = workload.read(t.random.nextInt(workload.chains()), READ_HOPS);
+        CompleteBenchmarks.ComplexData response = new CompleteBenchmarks.ComplexData();
+        response.id = (int) sum;
+        return response;
+    }
+
+    @Benchmark
+    public long benchmarkChurnThroughput(ThreadRandom t, Allocated a) {
+        long bytes = workload.churn(t.random.nextInt(workload.chains()));
+        a.allocatedBytes += bytes;
+        return bytes;
+    }
+}
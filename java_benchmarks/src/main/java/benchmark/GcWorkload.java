@@ -0,0 +1,138 @@
+package benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Retained object graph for GC stress runs.
+ *
+ * <p>The live set is an array of roots, each holding a linked chain of
+ * {@link Node}s. Every node carries a byte payload and every
+ * {@code COMPLEX_EVERY}-th node also references a
+ * {@link CompleteBenchmarks.ComplexData}, so the collector has to trace both
+ * long pointer chains and small map/list object clusters. {@link #churn}
+ * replaces a whole chain, turning the old one into garbage that has usually
+ * been promoted already; {@link #startChurner} does that on a background thread
+ * at a fixed allocation rate.
+ */
+public final class GcWorkload implements AutoCloseable {
+
+    static final int CHAIN_LENGTH = 64;
+    static final int PAYLOAD_BYTES = 128;
+    static final int COMPLEX_EVERY = 8;
+
+    /**
+     * Rough retained size of one node with compressed oops: the node itself
+     * (24B), its payload array (16B + payload) and an amortized share of a
+     * ComplexData with its tag list and three-entry HashMap (~450B).
+     */
+    static final long NODE_BYTES = 24 + 16 + PAYLOAD_BYTES + 450 / COMPLEX_EVERY;
+    static final long CHAIN_BYTES = NODE_BYTES * CHAIN_LENGTH;
+
+    static final class Node {
+        final long id;
+        final byte[] payload;
+        final CompleteBenchmarks.ComplexData data;
+        final Node next;
+
+        Node(long id, Node next, boolean withData) {
+            this.id = id;
+            this.payload = new byte[PAYLOAD_BYTES];
+            this.payload[0] = (byte) id;
+            this.data = withData ? new CompleteBenchmarks.ComplexData() : null;
+            this.next = next;
+        }
+    }
+
+    private final AtomicReferenceArray<Node> roots;
+    private volatile boolean running;
+    private Thread churner;
+
+    /** Builds a live set of roughly {@code liveSetBytes}. */
+    public GcWorkload(long liveSetBytes) {
+        int chains = (int) Math.max(1, Math.min(Integer.MAX_VALUE - 8, liveSetBytes / CHAIN_BYTES));
+        roots = new AtomicReferenceArray<>(chains);
+        for (int i = 0; i < chains; i++) {
+            roots.set(i, newChain(i));
+        }
+    }
+
+    public int chains() {
+        return roots.length();
+    }
+
+    /** Replaces the chain at {@code index}; returns the bytes allocated. */
+    public long churn(int index) {
+        roots.set(index, newChain(index));
+        return CHAIN_BYTES;
+    }
+
+    /** Walks {@code hops} nodes of chain {@code index}, summing payload bytes. */
+    public long read(int index, int hops) {
+        long sum = 0;
+        Node node = roots.get(index);
+        for (int i = 0; i < hops && node != null; i++) {
+            sum += node.payload[0] + node.id;
+            node = node.next;
+        }
+        return sum;
+    }
+
+    /**
+     * Starts a daemon thread that replaces random chains at roughly
+     * {@code bytesPerSecond}, paced in 1ms ticks. A rate of 0 starts nothing.
+     */
+    public void startChurner(long bytesPerSecond) {
+        if (bytesPerSecond <= 0) {
+            return;
+        }
+        running = true;
+        churner = new Thread(() -> {
+            SplittableRandom random = new SplittableRandom(7);
+            double chainsPerNano = bytesPerSecond / (double) CHAIN_BYTES / 1e9;
+            long start = System.nanoTime();
+            long churned = 0;
+            while (running) {
+                long due = (long) ((System.nanoTime() - start) * chainsPerNano);
+                if (churned >= due) {
+                    try {
+                        Thread.sleep(1);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    continue;
+                }
+                // After a long pause, catch up on the backlog so the average rate holds
+                while (churned < due && running) {
+                    churn(random.nextInt(roots.length()));
+                    churned++;
+                }
+            }
+        }, "gc-churner");
+        churner.setDaemon(true);
+        churner.start();
+    }
+
+    /** Stops the churner; an interrupt while waiting for it is passed on to the caller's thread. */
+    @Override
+    public void close() {
+        running = false;
+        if (churner != null) {
+            churner.interrupt();
+            try {
+                churner.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            churner = null;
+        }
+    }
+
+    private static Node newChain(long seed) {
+        Node head = null;
+        for (int i = 0; i < CHAIN_LENGTH; i++) {
+            head = new Node(seed * CHAIN_LENGTH + i, head, i % COMPLEX_EVERY == 0);
+        }
+        return head;
+    }
+}
@@ -0,0 +1,78 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SHA-256 of a {@code payload}-byte buffer per op, obtaining the digest the
+ * three ways {@link DigestSource} offers. {@code benchmarkSHA256Small/Large}
+ * correspond to {@code benchmarkGetInstance} at 13B and 1MB.
+ *
+ * <p>The {@code megabytes} counter reports hashed MB/s. This class runs on one
+ * thread; {@code run_java_benchmarks.sh} repeats it with {@code -t} from 1 to
+ * twice the core count into {@code java_scaling_hashing_t<N>.json}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class HashingBenchmarks {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    @Param({"16", "1024", "65536", "1048576", "67108864"})
+    public int payload;
+
+    private byte[] data;
+    private DigestSource perCall;
+    private DigestSource threadLocal;
+    private DigestSource cloning;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        data = new byte[payload];
+        new SplittableRandom(42).nextBytes(data);
+        perCall = DigestSource.perCall(ALGORITHM);
+        threadLocal = DigestSource.threadLocal(ALGORITHM);
+        cloning = DigestSource.cloning(ALGORITHM);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Throughput {
+        long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+
+        /** Bytes hashed, in MB; reported by JMH as MB/s. */
+        public double megabytes() {
+            return bytes / (1024.0 * 1024.0);
+        }
+    }
+
+    @Benchmark
+    public byte[] benchmarkGetInstance(Throughput t) {
+        t.bytes += payload;
+        return perCall.digest(data);
+    }
+
+    @Benchmark
+    public byte[] benchmarkThreadLocal(Throughput t) {
+        t.bytes += payload;
+        return threadLocal.digest(data);
+    }
+
+    @Benchmark
+    public byte[] benchmarkClonePrototype(Throughput t) {
+        t.bytes += payload;
+        return cloning.digest(data);
+    }
+}
@@ -0,0 +1,199 @@
+package benchmark;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing {@code int -> int} hash map with linear probing.
+ *
+ * <p>Keys and values sit in two flat {@code int[]} arrays; nothing is boxed
+ * and the map allocates only when it grows. Key 0 marks an empty slot and is
+ * stored out of table, as in {@link IntObjectMap}.
+ */
+public final class IntIntMap {
+
+    /** Linear probing degrades quickly past half full, so grow early. */
+    static final float LOAD_FACTOR = 0.5f;
+
+    private static final int MIN_CAPACITY = 8;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int shift;
+    private int size;
+    private int resizeAt;
+
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    public IntIntMap() {
+        this(16);
+    }
+
+    public IntIntMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    public int size() {
+        return size + (hasZeroKey ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean containsKey(int key) {
+        if (key == 0) {
+            return hasZeroKey;
+        }
+        return slotOf(key) >= 0;
+    }
+
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int slot = slotOf(key);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    public int get(int key) {
+        return getOrDefault(key, 0);
+    }
+
+    /** Associates {@code value} with {@code key}, returning the previous value or 0. */
+    public int put(int key, int value) {
+        if (key == 0) {
+            int previous = zeroValue;
+            hasZeroKey = true;
+            zeroValue = value;
+            return previous;
+        }
+        int slot = mix(key, shift);
+        while (true) {
+            int k = keys[slot];
+            if (k == 0) {
+                keys[slot] = key;
+                values[slot] = value;
+                if (++size >= resizeAt) {
+                    rehash(keys.length << 1);
+                }
+                return 0;
+            }
+            if (k == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /** Adds {@code delta} to the value for {@code key} (absent keys start at 0) and returns the new value. */
+    public int addTo(int key, int delta) {
+        if (key == 0) {
+            hasZeroKey = true;
+            return zeroValue += delta;
+        }
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            return values[slot] += delta;
+        }
+        put(key, delta);
+        return delta;
+    }
+
+    /** Removes {@code key}, returning its value or 0 if it was absent. */
+    public int remove(int key) {
+        if (key == 0) {
+            int previous = zeroValue;
+            hasZeroKey = false;
+            zeroValue = 0;
+            return previous;
+        }
+        int slot = slotOf(key);
+        if (slot < 0) {
+            return 0;
+        }
+        int previous = values[slot];
+        shiftBack(slot);
+        size--;
+        return previous;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        size = 0;
+        hasZeroKey = false;
+        zeroValue = 0;
+    }
+
+    private int slotOf(int key) {
+        int slot = mix(key, shift);
+        while (true) {
+            int k = keys[slot];
+            if (k == key) {
+                return slot;
+            }
+            if (k == 0) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void shiftBack(int slot) {
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != 0) {
+            int home = mix(keys[next], shift);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = 0;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        shift = Integer.numberOfLeadingZeros(mask);
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int k = oldKeys[i];
+            if (k != 0) {
+                int slot = mix(k, shift);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = k;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Fibonacci hashing: multiply by 2^32 / phi and keep the top bits, which
+     * spreads sequential keys evenly across a power-of-two table.
+     */
+    static int mix(int key, int shift) {
+        return (key * 0x9E3779B9) >>> shift;
+    }
+
+    /** Smallest power-of-two table that holds {@code expectedSize} entries under {@link #LOAD_FACTOR}. */
+    static int tableSizeFor(int expectedSize) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 1) / (double) LOAD_FACTOR) + 1;
+        long capacity = Long.highestOneBit(needed - 1) << 1;
+        return (int) Math.min(Math.max(capacity, MIN_CAPACITY), 1 << 30);
+    }
+}
@@ -0,0 +1,241 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * File I/O paths over a scratch file of {@code fileSize} bytes.
+ *
+ * <p>Every benchmark adds the bytes it moved to the {@code megabytes} counter,
+ * which JMH reports as MB/s. Whole-file benchmarks read or copy the full file
+ * per op; {@code benchmarkMappedRandomRead} reads one {@code blockSize} block
+ * at a random aligned offset per op. {@code benchmarkFilesReadAllBytes} has its
+ * own {@code fileSize} list stopping at 1GB, since one {@code byte[]} cannot
+ * hold 2GB.
+ *
+ * <p>The file is written once per trial and then read repeatedly, so most reads
+ * come from the page cache; files larger than RAM measure the device. Point
+ * {@code -Dbenchmark.io.dir} at the disk under test.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IoBenchmarks {
+
+    /** Largest region a single MappedByteBuffer can cover. */
+    private static final long MAP_CHUNK = 1L << 30;
+
+    @Param({"65536"})
+    public int bufferSize;
+
+    @Param({"4096"})
+    public int blockSize;
+
+    private ByteBuffer heapBuffer;
+    private ByteBuffer directBuffer;
+    private byte[] streamChunk;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        heapBuffer = ByteBuffer.allocate(bufferSize);
+        directBuffer = ByteBuffer.allocateDirect(bufferSize);
+        streamChunk = new byte[bufferSize];
+    }
+
+    /** The scratch file, an open channel on it and read-only mappings covering it. */
+    public abstract static class ScratchFile {
+        Path dir;
+        Path file;
+        Path copyTarget;
+        FileChannel channel;
+        MappedByteBuffer[] mapped;
+        long size;
+
+        abstract long fileSize();
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            size = fileSize();
+            dir = BenchmarkFiles.createTempDirectory("io-bench");
+            file = BenchmarkFiles.writeRandomFile(dir.resolve("data.bin"), size);
+            copyTarget = dir.resolve("copy.bin");
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            int chunks = (int) ((size + MAP_CHUNK - 1) / MAP_CHUNK);
+            mapped = new MappedByteBuffer[chunks];
+            for (int i = 0; i < chunks; i++) {
+                long offset = i * MAP_CHUNK;
+                mapped[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(MAP_CHUNK, size - offset));
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            mapped = null;
+            channel.close();
+            BenchmarkFiles.deleteRecursively(dir);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Scratch extends ScratchFile {
+        @Param({"4096", "1048576", "67108864", "1073741824", "4294967296"})
+        public long fileSize;
+
+        @Override
+        long fileSize() {
+            return fileSize;
+        }
+    }
+
+    /** Sizes a single {@code byte[]} can hold. */
+    @State(Scope.Benchmark)
+    public static class ArrayScratch extends ScratchFile {
+        @Param({"4096", "1048576", "67108864", "1073741824"})
+        public long fileSize;
+
+        @Override
+        long fileSize() {
+            return fileSize;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Throughput {
+        long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+
+        /** Bytes moved, in MB; reported by JMH as MB/s. */
+        public double megabytes() {
+            return bytes / (1024.0 * 1024.0);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadRandom {
+        final SplittableRandom random = new SplittableRandom(42);
+    }
+
+    // ============================================================
+    // Memory-mapped
+    // ============================================================
+
+    @Benchmark
+    public long benchmarkMappedSequentialRead(Scratch f, Throughput t) {
+        long checksum = 0;
+        for (MappedByteBuffer region : f.mapped) {
+            int limit = region.limit();
+            int i = 0;
+            for (; i + Long.BYTES <= limit; i += Long.BYTES) {
+                checksum ^= region.getLong(i);
+            }
+            for (; i < limit; i++) {
+                checksum ^= region.get(i);
+            }
+        }
+        t.bytes += f.size;
+        return checksum;
+    }
+
+    @Benchmark
+    public long benchmarkMappedRandomRead(Scratch f, Throughput t, ThreadRandom r) {
+        long blocks = Math.max(1, f.size / blockSize);
+        long offset = r.random.nextLong(blocks) * blockSize;
+        MappedByteBuffer region = f.mapped[(int) (offset / MAP_CHUNK)];
+        int start = (int) (offset % MAP_CHUNK);
+        int end = (int) Math.min(start + (long) blockSize, region.limit());
+        long checksum = 0;
+        for (int i = start; i + Long.BYTES <= end; i += Long.BYTES) {
+            checksum ^= region.getLong(i);
+        }
+        t.bytes += end - start;
+        return checksum;
+    }
+
+    // ============================================================
+    // FileChannel.read
+    // ============================================================
+
+    @Benchmark
+    public long benchmarkChannelReadHeap(Scratch f, Throughput t) throws IOException {
+        return readChannel(f, heapBuffer, t);
+    }
+
+    @Benchmark
+    public long benchmarkChannelReadDirect(Scratch f, Throughput t) throws IOException {
+        return readChannel(f, directBuffer, t);
+    }
+
+    private long readChannel(ScratchFile f, ByteBuffer buffer, Throughput t) throws IOException {
+        long position = 0;
+        while (position < f.size) {
+            buffer.clear();
+            int n = f.channel.read(buffer, position);
+            if (n < 0) {
+                break;
+            }
+            position += n;
+        }
+        t.bytes += position;
+        return position;
+    }
+
+    // ============================================================
+    // Streams and whole-file reads
+    // ============================================================
+
+    @Benchmark
+    public byte[] benchmarkFilesReadAllBytes(ArrayScratch f, Throughput t) throws IOException {
+        byte[] bytes = Files.readAllBytes(f.file);
+        t.bytes += bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public long benchmarkBufferedInputStream(Scratch f, Throughput t) throws IOException {
+        long total = 0;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(f.file), bufferSize)) {
+            int n;
+            while ((n = in.read(streamChunk)) > 0) {
+                total += n;
+            }
+        }
+        t.bytes += total;
+        return total;
+    }
+
+    // ============================================================
+    // File-to-file copy
+    // ============================================================
+
+    @Benchmark
+    public long benchmarkTransferTo(Scratch f, Throughput t) throws IOException {
+        long position = 0;
+        try (FileChannel target = FileChannel.open(f.copyTarget,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (position < f.size) {
+                position += f.channel.transferTo(position, f.size - position, target);
+            }
+        }
+        t.bytes += position;
+        return position;
+    }
+}
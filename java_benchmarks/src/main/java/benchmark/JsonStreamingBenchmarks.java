@@ -0,0 +1,291 @@
+package benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming JSON over {@code records} {@link CompleteBenchmarks.ComplexData}
+ * values, next to the whole-document databind path that
+ * {@code benchmarkJSONMarshalArray100} uses.
+ *
+ * <ul>
+ *   <li>Writes produce one JSON array into a discarding {@link OutputStream}:
+ *       hand-driven {@link JsonGenerator}, {@link SequenceWriter}, and
+ *       {@code writeValueAsString} of the whole list</li>
+ *   <li>Reads consume the same array from an {@link InputStream}: hand-driven
+ *       {@link JsonParser}, {@link MappingIterator}, and {@code readValue}
+ *       into a {@code List}</li>
+ * </ul>
+ *
+ * <p>Every op handles all records; the {@code records} counter reports
+ * records/s, and {@code -prof gc} divided by {@code records} gives bytes
+ * allocated per record. Streaming paths run in constant memory and default
+ * to 10K, 1M and 10M records. The whole-document paths hold the full String
+ * or List, so their own {@code records} list stops at 1M: at 10M the String
+ * exceeds the array limit and the List needs ~8GB of heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonStreamingBenchmarks {
+
+    private static final TypeReference<List<CompleteBenchmarks.ComplexData>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonFactory jsonFactory = objectMapper.getFactory();
+    private ObjectWriter recordWriter;
+    private ObjectReader recordReader;
+    private byte[] recordJson;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        recordWriter = objectMapper.writerFor(CompleteBenchmarks.ComplexData.class);
+        recordReader = objectMapper.readerFor(CompleteBenchmarks.ComplexData.class);
+        recordJson = objectMapper.writeValueAsBytes(new CompleteBenchmarks.ComplexData());
+    }
+
+    /** How many records an op writes or reads, and the write paths' source; subclasses supply the count. */
+    public abstract static class Input {
+        int count;
+        List<CompleteBenchmarks.ComplexData> source;
+
+        abstract int records();
+
+        @Setup(Level.Trial)
+        public void setup() {
+            count = records();
+            source = new RecordSource(count);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Streamed extends Input {
+        @Param({"10000", "1000000", "10000000"})
+        public int records;
+
+        @Override
+        int records() {
+            return records;
+        }
+    }
+
+    /** Counts whose whole document fits in one String or List; 10M is opt-in with {@code -p records=10000000}. */
+    @State(Scope.Benchmark)
+    public static class Document extends Input {
+        @Param({"10000", "1000000"})
+        public int records;
+
+        @Override
+        int records() {
+            return records;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Records {
+        /** Records written or read; reported by JMH as records/s. */
+        public long records;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            records = 0;
+        }
+    }
+
+    // ============================================================
+    // Write
+    // ============================================================
+
+    @Benchmark
+    public String benchmarkDatabindWriteDocument(Document in, Records r) throws IOException {
+        String json = objectMapper.writeValueAsString(in.source);
+        r.records += in.count;
+        return json;
+    }
+
+    @Benchmark
+    public long benchmarkGeneratorWrite(Streamed in, Records r) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(OutputStream.nullOutputStream())) {
+            generator.writeStartArray();
+            for (CompleteBenchmarks.ComplexData data : in.source) {
+                writeRecord(generator, data);
+            }
+            generator.writeEndArray();
+        }
+        r.records += in.count;
+        return in.count;
+    }
+
+    @Benchmark
+    public long benchmarkSequenceWriter(Streamed in, Records r) throws IOException {
+        try (SequenceWriter writer = recordWriter.writeValuesAsArray(OutputStream.nullOutputStream())) {
+            for (CompleteBenchmarks.ComplexData data : in.source) {
+                writer.write(data);
+            }
+        }
+        r.records += in.count;
+        return in.count;
+    }
+
+    // ============================================================
+    // Read
+    // ============================================================
+
+    @Benchmark
+    public List<CompleteBenchmarks.ComplexData> benchmarkDatabindReadDocument(Document in, Records r) throws IOException {
+        List<CompleteBenchmarks.ComplexData> list = objectMapper.readValue(arrayInput(in), LIST_TYPE);
+        r.records += list.size();
+        return list;
+    }
+
+    @Benchmark
+    public long benchmarkParserRead(Streamed in, Records r) throws IOException {
+        long checksum = 0;
+        try (JsonParser parser = jsonFactory.createParser(arrayInput(in))) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                CompleteBenchmarks.ComplexData data = readRecord(parser);
+                checksum += data.id + data.tags.size();
+                r.records++;
+            }
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long benchmarkMappingIterator(Streamed in, Records r) throws IOException {
+        long checksum = 0;
+        try (MappingIterator<CompleteBenchmarks.ComplexData> it = recordReader.readValues(arrayInput(in))) {
+            while (it.hasNextValue()) {
+                CompleteBenchmarks.ComplexData data = it.nextValue();
+                checksum += data.id + data.tags.size();
+                r.records++;
+            }
+        }
+        return checksum;
+    }
+
+    private InputStream arrayInput(Input in) {
+        return new RepeatedRecordInputStream(new byte[]{'['}, recordJson, new byte[]{','}, new byte[]{']'}, in.count);
+    }
+
+    // ============================================================
+    // Hand-driven streaming codec
+    // ============================================================
+
+    static void writeRecord(JsonGenerator g, CompleteBenchmarks.ComplexData data) throws IOException {
+        g.writeStartObject();
+        g.writeNumberField("id", data.id);
+        g.writeStringField("name", data.name);
+        g.writeStringField("email", data.email);
+        g.writeNumberField("age", data.age);
+        g.writeBooleanField("active", data.active);
+        g.writeArrayFieldStart("tags");
+        for (String tag : data.tags) {
+            g.writeString(tag);
+        }
+        g.writeEndArray();
+        g.writeObjectFieldStart("metadata");
+        for (Map.Entry<String, Object> e : data.metadata.entrySet()) {
+            g.writeObjectField(e.getKey(), e.getValue());
+        }
+        g.writeEndObject();
+        g.writeEndObject();
+    }
+
+    /** Reads one object; the parser must be positioned on its START_OBJECT. */
+    static CompleteBenchmarks.ComplexData readRecord(JsonParser p) throws IOException {
+        CompleteBenchmarks.ComplexData data = new CompleteBenchmarks.ComplexData();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "id" -> data.id = p.getIntValue();
+                case "name" -> data.name = p.getText();
+                case "email" -> data.email = p.getText();
+                case "age" -> data.age = p.getIntValue();
+                case "active" -> data.active = p.getBooleanValue();
+                case "tags" -> {
+                    List<String> tags = new ArrayList<>();
+                    while (p.nextToken() != JsonToken.END_ARRAY) {
+                        tags.add(p.getText());
+                    }
+                    data.tags = tags;
+                }
+                case "metadata" -> {
+                    Map<String, Object> metadata = new HashMap<>();
+                    while (p.nextToken() == JsonToken.FIELD_NAME) {
+                        String key = p.currentName();
+                        metadata.put(key, scalar(p.nextToken(), p));
+                    }
+                    data.metadata = metadata;
+                }
+                default -> p.skipChildren();
+            }
+        }
+        return data;
+    }
+
+    private static Object scalar(JsonToken token, JsonParser p) throws IOException {
+        return switch (token) {
+            case VALUE_STRING -> p.getText();
+            case VALUE_NUMBER_INT -> p.getNumberValue();
+            case VALUE_NUMBER_FLOAT -> p.getDoubleValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NULL -> null;
+            default -> {
+                p.skipChildren();
+                yield null;
+            }
+        };
+    }
+
+    /**
+     * The {@code i}-th record, produced on demand by reusing one instance with
+     * a new id, so the source costs neither heap nor allocation at 10M.
+     */
+    private static final class RecordSource extends AbstractList<CompleteBenchmarks.ComplexData> {
+        private final CompleteBenchmarks.ComplexData template = new CompleteBenchmarks.ComplexData();
+        private final int size;
+
+        RecordSource(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public CompleteBenchmarks.ComplexData get(int index) {
+            template.id = index;
+            return template;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package benchmark;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe log-linear latency histogram in nanoseconds.
+ *
+ * <p>Each power of two is split into {@code 2^SUB_BITS} linear sub-buckets, so
+ * any recorded value is reported within ~6% of its true value; that is plenty
+ * for p99 comparisons and recording is one {@code getAndIncrement}. Values
+ * above 2^40ns (~18 minutes) land in the last bucket.
+ */
+public final class LatencyRecorder {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int MAX_BITS = 40;
+
+    private final AtomicLongArray counts = new AtomicLongArray((MAX_BITS + 1) * SUB_BUCKETS);
+
+    public void record(long nanos) {
+        counts.getAndIncrement(indexOf(Math.max(0, nanos)));
+    }
+
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    public long count() {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /** Upper bound of the bucket holding the {@code p}-th quantile (0 < p <= 1), or 0 if empty. */
+    public long percentile(double p) {
+        long total = count();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(p * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(counts.length() - 1);
+    }
+
+    /** {@link #percentile} in microseconds. */
+    public double percentileMicros(double p) {
+        return percentile(p) / 1e3;
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        if (magnitude > MAX_BITS) {
+            return (MAX_BITS + 1) * SUB_BUCKETS - 1;
+        }
+        int sub = (int) (value >>> (magnitude - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (magnitude - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int magnitude = index / SUB_BUCKETS + SUB_BITS - 1;
+        int sub = index % SUB_BUCKETS;
+        long base = (1L << magnitude) + ((long) sub << (magnitude - SUB_BITS));
+        return base + (1L << (magnitude - SUB_BITS)) - 1;
+    }
+}
@@ -0,0 +1,83 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matrix multiplication size sweep. Small sizes fit in L1/L2, the larger ones
+ * spill to L3 and then DRAM, so comparing the variants across {@code size}
+ * shows where each machine falls off the cache cliff.
+ *
+ * <p>Override the sweep from the command line, e.g.
+ * {@code -p size=512,1024 -p blockSize=32,64,128 -p parallelism=1,2,4,8}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MatrixBenchmarks {
+
+    @Param({"64", "128", "256", "512", "1024", "2048"})
+    public int size;
+
+    @Param({"64"})
+    public int blockSize;
+
+    /** Worker threads for the parallel variant; 0 means one per available processor. */
+    @Param({"0"})
+    public int parallelism;
+
+    private int[][] matrixA, matrixB;
+    private ForkJoinPool pool;
+    private MatrixEngine engine;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        matrixA = createMatrix(size, random);
+        matrixB = createMatrix(size, random);
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(threads);
+        engine = new MatrixEngine(blockSize, pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int[][] benchmarkMatrixNaive() {
+        return MatrixEngine.multiplyNaive(matrixA, matrixB);
+    }
+
+    @Benchmark
+    public int[][] benchmarkMatrixTransposed() {
+        return MatrixEngine.multiplyTransposed(matrixA, matrixB);
+    }
+
+    @Benchmark
+    public int[][] benchmarkMatrixTiled() {
+        return engine.multiplyTiled(matrixA, matrixB);
+    }
+
+    @Benchmark
+    public int[][] benchmarkMatrixParallel() {
+        return engine.multiplyParallel(matrixA, matrixB);
+    }
+
+    private static int[][] createMatrix(int size, Random random) {
+        int[][] matrix = new int[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                matrix[i][j] = random.nextInt(100);
+            }
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,155 @@
+package benchmark;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Matrix multiplication kernels over {@code int[][]} with increasingly
+ * cache-friendly access patterns.
+ *
+ * <ul>
+ *   <li>{@link #multiplyNaive} - i-j-k loop, walks B column-wise</li>
+ *   <li>{@link #multiplyTransposed} - transposes B so both operands are read row-wise</li>
+ *   <li>{@link #multiplyTiled} - i-k-j loop over square tiles of {@code blockSize}</li>
+ *   <li>{@link #multiplyParallel} - tiled kernel with rows partitioned on a {@link ForkJoinPool}</li>
+ * </ul>
+ */
+public final class MatrixEngine {
+
+    private final int blockSize;
+    private final ForkJoinPool pool;
+
+    public MatrixEngine(int blockSize, ForkJoinPool pool) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize must be positive: " + blockSize);
+        }
+        this.blockSize = blockSize;
+        this.pool = pool;
+    }
+
+    public int blockSize() {
+        return blockSize;
+    }
+
+    public static int[][] multiplyNaive(int[][] a, int[][] b) {
+        int n = a.length;
+        int[][] result = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                int sum = 0;
+                for (int k = 0; k < n; k++) {
+                    sum += a[i][k] * b[k][j];
+                }
+                result[i][j] = sum;
+            }
+        }
+        return result;
+    }
+
+    public static int[][] multiplyTransposed(int[][] a, int[][] b) {
+        int n = a.length;
+        int[][] bt = transpose(b);
+        int[][] result = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            int[] rowA = a[i];
+            int[] rowC = result[i];
+            for (int j = 0; j < n; j++) {
+                int[] colB = bt[j];
+                int sum = 0;
+                for (int k = 0; k < n; k++) {
+                    sum += rowA[k] * colB[k];
+                }
+                rowC[j] = sum;
+            }
+        }
+        return result;
+    }
+
+    public int[][] multiplyTiled(int[][] a, int[][] b) {
+        int n = a.length;
+        int[][] result = new int[n][n];
+        multiplyRows(a, b, result, 0, n, blockSize);
+        return result;
+    }
+
+    public int[][] multiplyParallel(int[][] a, int[][] b) {
+        if (pool == null) {
+            throw new IllegalStateException("multiplyParallel requires a ForkJoinPool");
+        }
+        int n = a.length;
+        int[][] result = new int[n][n];
+        pool.invoke(new RowRangeTask(a, b, result, 0, n, blockSize));
+        return result;
+    }
+
+    public static int[][] transpose(int[][] m) {
+        int n = m.length;
+        int[][] t = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                t[j][i] = m[i][j];
+            }
+        }
+        return t;
+    }
+
+    /**
+     * Accumulates rows [rowFrom, rowTo) of {@code a * b} into {@code c}, visiting
+     * B and C one {@code block x block} tile at a time so the working set of the
+     * inner loops stays cache resident.
+     */
+    static void multiplyRows(int[][] a, int[][] b, int[][] c, int rowFrom, int rowTo, int block) {
+        int n = b.length;
+        for (int ii = rowFrom; ii < rowTo; ii += block) {
+            int iMax = Math.min(ii + block, rowTo);
+            for (int kk = 0; kk < n; kk += block) {
+                int kMax = Math.min(kk + block, n);
+                for (int jj = 0; jj < n; jj += block) {
+                    int jMax = Math.min(jj + block, n);
+                    for (int i = ii; i < iMax; i++) {
+                        int[] rowA = a[i];
+                        int[] rowC = c[i];
+                        for (int k = kk; k < kMax; k++) {
+                            int aik = rowA[k];
+                            int[] rowB = b[k];
+                            for (int j = jj; j < jMax; j++) {
+                                rowC[j] += aik * rowB[j];
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class RowRangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[][] a, b, c;
+        private final int from, to, block;
+
+        RowRangeTask(int[][] a, int[][] b, int[][] c, int from, int to, int block) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.from = from;
+            this.to = to;
+            this.block = block;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= block) {
+                multiplyRows(a, b, c, from, to, block);
+                return;
+            }
+            // Split on a block boundary so no two tasks share a row tile
+            int mid = from + ((to - from) / block / 2) * block;
+            if (mid == from) {
+                mid += block;
+            }
+            invokeAll(new RowRangeTask(a, b, c, from, mid, block),
+                      new RowRangeTask(a, b, c, mid, to, block));
+        }
+    }
+}
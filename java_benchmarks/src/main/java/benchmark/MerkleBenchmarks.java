@@ -0,0 +1,134 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parallel {@link MerkleHasher} root versus one sequential SHA-256 pass over
+ * the same {@code size} bytes, from heap arrays or a memory-mapped file
+ * ({@code source}). Inputs are held as 1GB regions so sizes above 2GB work.
+ *
+ * <p>The {@code gigabytes} counter reports GB/s. {@code parallelism} defaults
+ * to 1, 2, 4 and 0 (one worker per available processor);
+ * {@code run_java_benchmarks.sh} sweeps powers of two up to the core count
+ * into {@code java_scaling_merkle.tsv}. The pool lives in the {@link Pool}
+ * state, so the sequential baseline runs once per input. 4GB is opt-in with
+ * {@code -p size=4294967296}; the heap source then needs
+ * {@code -jvmArgsAppend -Xmx6g}, and the mapped source needs the file to fit
+ * in the page cache to measure hashing rather than the disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MerkleBenchmarks {
+
+    private static final int REGION_SIZE = 1 << 30;
+
+    @Param({"67108864", "1073741824"})
+    public long size;
+
+    @Param({"heap", "mapped"})
+    public String source;
+
+    private Path dir;
+    private FileChannel channel;
+    private ByteBuffer[] regions;
+    /** Only its {@link MerkleHasher#sequential}, which never touches the pool, is used. */
+    private MerkleHasher baseline;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        int count = (int) ((size + REGION_SIZE - 1) / REGION_SIZE);
+        regions = new ByteBuffer[count];
+        if (source.equals("mapped")) {
+            dir = BenchmarkFiles.createTempDirectory("merkle-bench");
+            Path file = BenchmarkFiles.writeRandomFile(dir.resolve("data.bin"), size);
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            for (int i = 0; i < count; i++) {
+                long offset = (long) i * REGION_SIZE;
+                regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(REGION_SIZE, size - offset));
+            }
+        } else {
+            SplittableRandom random = new SplittableRandom(42);
+            for (int i = 0; i < count; i++) {
+                byte[] bytes = new byte[(int) Math.min(REGION_SIZE, size - (long) i * REGION_SIZE)];
+                random.nextBytes(bytes);
+                regions[i] = ByteBuffer.wrap(bytes);
+            }
+        }
+        baseline = new MerkleHasher(ForkJoinPool.commonPool(), REGION_SIZE, "SHA-256");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        regions = null;
+        if (channel != null) {
+            channel.close();
+            BenchmarkFiles.deleteRecursively(dir);
+        }
+    }
+
+    /** The tree hash's pool; only {@code benchmarkMerkleRoot} takes it. */
+    @State(Scope.Benchmark)
+    public static class Pool {
+        /** Worker threads for the tree hash; 0 means one per available processor. */
+        @Param({"1", "2", "4", "0"})
+        public int parallelism;
+
+        @Param({"1048576"})
+        public int leafSize;
+
+        ForkJoinPool pool;
+        MerkleHasher hasher;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+            hasher = new MerkleHasher(pool, leafSize, "SHA-256");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Throughput {
+        long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+
+        /** Bytes hashed, in GB; reported by JMH as GB/s. */
+        public double gigabytes() {
+            return bytes / (1024.0 * 1024.0 * 1024.0);
+        }
+    }
+
+    @Benchmark
+    public byte[] benchmarkSequentialSha256(Throughput t) {
+        t.bytes += size;
+        return baseline.sequential(regions);
+    }
+
+    @Benchmark
+    public byte[] benchmarkMerkleRoot(Pool p, Throughput t) {
+        t.bytes += size;
+        return p.hasher.root(regions);
+    }
+}
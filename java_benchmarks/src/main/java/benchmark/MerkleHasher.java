@@ -0,0 +1,113 @@
+package benchmark;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Merkle tree hash over fixed-size leaves, computed on a {@link ForkJoinPool}.
+ *
+ * <p>The tree follows RFC 6962: a leaf hashes {@code 0x00 || leaf}, an inner
+ * node {@code 0x01 || left || right}, and a range of {@code n} leaves splits
+ * at the largest power of two below {@code n}. Every leaf is an independent
+ * task; inner nodes hash 65 bytes each, so the leaves are the work and throughput
+ * scales with the pool until memory bandwidth runs out.
+ *
+ * <p>Input is one or more regions (heap, direct or mapped buffers) read as a
+ * single byte sequence. Every region but the last must be a whole number of
+ * leaves, which lets callers cover files larger than one buffer can map.
+ */
+public final class MerkleHasher {
+
+    private static final byte LEAF = 0x00;
+    private static final byte NODE = 0x01;
+
+    private final ForkJoinPool pool;
+    private final int leafSize;
+    private final DigestSource digests;
+
+    public MerkleHasher(ForkJoinPool pool, int leafSize, String algorithm) {
+        if (leafSize <= 0) {
+            throw new IllegalArgumentException("leafSize must be positive: " + leafSize);
+        }
+        this.pool = pool;
+        this.leafSize = leafSize;
+        this.digests = DigestSource.threadLocal(algorithm);
+    }
+
+    /** Root hash of the regions' remaining bytes; an empty input hashes as one empty leaf. */
+    public byte[] root(ByteBuffer... regions) {
+        long[] leafStart = new long[regions.length + 1];
+        for (int i = 0; i < regions.length; i++) {
+            int leaves = (regions[i].remaining() + leafSize - 1) / leafSize;
+            if (i < regions.length - 1 && regions[i].remaining() % leafSize != 0) {
+                throw new IllegalArgumentException("Region " + i + " is not a whole number of leaves");
+            }
+            leafStart[i + 1] = leafStart[i] + leaves;
+        }
+        long leafCount = Math.max(1, leafStart[regions.length]);
+        return pool.invoke(new SubtreeTask(regions, leafStart, 0, leafCount));
+    }
+
+    /** Plain digest of the same bytes, for comparison with {@link #root}. */
+    public byte[] sequential(ByteBuffer... regions) {
+        MessageDigest digest = digests.get();
+        for (ByteBuffer region : regions) {
+            digest.update(region.duplicate());
+        }
+        return digest.digest();
+    }
+
+    /** Never serialized; ForkJoinTask is Serializable only by inheritance. */
+    @SuppressWarnings("serial")
+    private final class SubtreeTask extends RecursiveTask<byte[]> {
+        private final ByteBuffer[] regions;
+        private final long[] leafStart;
+        private final long from;
+        private final long to;
+
+        SubtreeTask(ByteBuffer[] regions, long[] leafStart, long from, long to) {
+            this.regions = regions;
+            this.leafStart = leafStart;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected byte[] compute() {
+            long n = to - from;
+            if (n == 1) {
+                return hashLeaf(from);
+            }
+            long split = from + Long.highestOneBit(n - 1);
+            SubtreeTask left = new SubtreeTask(regions, leafStart, from, split);
+            left.fork();
+            byte[] right = new SubtreeTask(regions, leafStart, split, to).compute();
+            byte[] leftHash = left.join();
+            // Only take the thread's digest after join(): a joining thread may run other tasks that use it
+            MessageDigest digest = digests.get();
+            digest.update(NODE);
+            digest.update(leftHash);
+            digest.update(right);
+            return digest.digest();
+        }
+
+        private byte[] hashLeaf(long leaf) {
+            MessageDigest digest = digests.get();
+            digest.update(LEAF);
+            int region = 0;
+            while (region < regions.length - 1 && leaf >= leafStart[region + 1]) {
+                region++;
+            }
+            if (regions.length > 0) {
+                ByteBuffer slice = regions[region].duplicate();
+                int offset = (int) ((leaf - leafStart[region]) * leafSize);
+                slice.position(slice.position() + offset);
+                slice.limit(Math.min(slice.limit(), slice.position() + leafSize));
+                digest.update(slice);
+            }
+            return digest.digest();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package benchmark;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Open-addressing {@code long -> long} hash map stored outside the Java heap
+ * in a {@link MemorySegment}.
+ *
+ * <p>Each slot is a 16-byte (key, value) pair so a probe touches a single
+ * cache line. Nothing in the table is a Java object, so the garbage collector
+ * never marks or copies it no matter how many entries it holds. Like
+ * {@link IntIntMap}, key 0 marks an empty slot and is kept out of table.
+ *
+ * <p>Every table lives in its own shared {@link Arena}; growing allocates a new
+ * arena and closes the old one, and {@link #close()} frees the memory
+ * immediately instead of waiting for a GC.
+ */
+public final class OffHeapLongLongMap implements AutoCloseable {
+
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final long SLOT_BYTES = 16;
+    private static final int MIN_CAPACITY = 16;
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG;
+
+    private Arena arena;
+    private MemorySegment table;
+    private long capacity;
+    private long mask;
+    private int shift;
+    private long size;
+    private long resizeAt;
+
+    private boolean hasZeroKey;
+    private long zeroValue;
+
+    public OffHeapLongLongMap(long expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    public long size() {
+        return size + (hasZeroKey ? 1 : 0);
+    }
+
+    /** Bytes of native memory held by the table. */
+    public long footprint() {
+        return capacity * SLOT_BYTES;
+    }
+
+    public boolean containsKey(long key) {
+        if (key == 0) {
+            return hasZeroKey;
+        }
+        return slotOf(key) >= 0;
+    }
+
+    public long getOrDefault(long key, long defaultValue) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        long slot = slotOf(key);
+        return slot >= 0 ? table.get(LONG, slot * SLOT_BYTES + 8) : defaultValue;
+    }
+
+    public long get(long key) {
+        return getOrDefault(key, 0);
+    }
+
+    /** Associates {@code value} with {@code key}, returning the previous value or 0. */
+    public long put(long key, long value) {
+        if (key == 0) {
+            long previous = zeroValue;
+            hasZeroKey = true;
+            zeroValue = value;
+            return previous;
+        }
+        long slot = mix(key, shift);
+        while (true) {
+            long offset = slot * SLOT_BYTES;
+            long k = table.get(LONG, offset);
+            if (k == 0) {
+                table.set(LONG, offset, key);
+                table.set(LONG, offset + 8, value);
+                if (++size >= resizeAt) {
+                    rehash(capacity << 1);
+                }
+                return 0;
+            }
+            if (k == key) {
+                long previous = table.get(LONG, offset + 8);
+                table.set(LONG, offset + 8, value);
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /** Removes {@code key}, returning its value or 0 if it was absent. */
+    public long remove(long key) {
+        if (key == 0) {
+            long previous = zeroValue;
+            hasZeroKey = false;
+            zeroValue = 0;
+            return previous;
+        }
+        long slot = slotOf(key);
+        if (slot < 0) {
+            return 0;
+        }
+        long previous = table.get(LONG, slot * SLOT_BYTES + 8);
+        shiftBack(slot);
+        size--;
+        return previous;
+    }
+
+    @Override
+    public void close() {
+        if (arena != null) {
+            arena.close();
+            arena = null;
+            table = null;
+        }
+    }
+
+    private long slotOf(long key) {
+        long slot = mix(key, shift);
+        while (true) {
+            long k = table.get(LONG, slot * SLOT_BYTES);
+            if (k == key) {
+                return slot;
+            }
+            if (k == 0) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void shiftBack(long slot) {
+        long gap = slot;
+        long next = (gap + 1) & mask;
+        while (true) {
+            long k = table.get(LONG, next * SLOT_BYTES);
+            if (k == 0) {
+                break;
+            }
+            long home = mix(k, shift);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                table.set(LONG, gap * SLOT_BYTES, k);
+                table.set(LONG, gap * SLOT_BYTES + 8, table.get(LONG, next * SLOT_BYTES + 8));
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        table.set(LONG, gap * SLOT_BYTES, 0L);
+    }
+
+    private void allocate(long newCapacity) {
+        arena = Arena.ofShared();
+        // Arena memory is zeroed, so every slot starts empty
+        table = arena.allocate(newCapacity * SLOT_BYTES, 64);
+        capacity = newCapacity;
+        mask = newCapacity - 1;
+        shift = Long.numberOfLeadingZeros(mask);
+        resizeAt = (long) (newCapacity * LOAD_FACTOR);
+    }
+
+    private void rehash(long newCapacity) {
+        Arena oldArena = arena;
+        MemorySegment oldTable = table;
+        long oldCapacity = capacity;
+        allocate(newCapacity);
+        for (long i = 0; i < oldCapacity; i++) {
+            long k = oldTable.get(LONG, i * SLOT_BYTES);
+            if (k != 0) {
+                long slot = mix(k, shift);
+                while (table.get(LONG, slot * SLOT_BYTES) != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table.set(LONG, slot * SLOT_BYTES, k);
+                table.set(LONG, slot * SLOT_BYTES + 8, oldTable.get(LONG, i * SLOT_BYTES + 8));
+            }
+        }
+        oldArena.close();
+    }
+
+    /** 64-bit Fibonacci hashing, see {@link IntIntMap}. */
+    private static long mix(long key, int shift) {
+        return (key * 0x9E3779B97F4A7C15L) >>> shift;
+    }
+
+    private static long tableSizeFor(long expectedSize) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 1) / (double) LOAD_FACTOR) + 1;
+        long capacity = Long.highestOneBit(needed - 1) << 1;
+        return Math.max(capacity, MIN_CAPACITY);
+    }
+}
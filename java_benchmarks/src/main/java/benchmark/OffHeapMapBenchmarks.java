@@ -0,0 +1,145 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Put/get throughput on a prepopulated {@link OffHeapLongLongMap} versus an
+ * on-heap {@code HashMap<Long, Long>} holding the same keys.
+ *
+ * <p>The on-heap map keeps every entry as three live objects that each GC
+ * cycle has to mark, while the off-heap table is invisible to the collector.
+ * {@code run_java_benchmarks.sh} runs this class under every collector it
+ * sweeps with {@code -prof benchmark.GcPauseProfiler}, so each benchmark's
+ * own {@code gc.pause.*} results show what the live set costs that GC.
+ *
+ * <p>Sizing: 100M entries are opt-in with {@code -p entries=100000000}. They
+ * need ~2GB of native memory off-heap and roughly 8GB of heap for the
+ * {@code HashMap}, e.g. {@code -jvmArgsAppend -Xmx12g}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OffHeapMapBenchmarks {
+
+    /** Random keys looked up or overwritten per invocation. */
+    private static final int BATCH = 1024;
+
+    @State(Scope.Benchmark)
+    public static class OffHeapState {
+        @Param({"1000000", "10000000"})
+        public int entries;
+
+        OffHeapLongLongMap map;
+        long[] probes;
+        int cursor;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            map = new OffHeapLongLongMap(entries);
+            for (long key = 1; key <= entries; key++) {
+                map.put(key, key * 31);
+            }
+            probes = randomKeys(entries);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            map.close();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class HeapState {
+        @Param({"1000000", "10000000"})
+        public int entries;
+
+        Map<Long, Long> map;
+        long[] probes;
+        int cursor;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            map = new HashMap<>((int) Math.min(Integer.MAX_VALUE, (long) (entries / 0.75) + 1));
+            for (long key = 1; key <= entries; key++) {
+                map.put(key, key * 31);
+            }
+            probes = randomKeys(entries);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long benchmarkOffHeapGet(OffHeapState s) {
+        long[] probes = s.probes;
+        int base = nextBatch(s.cursor, probes.length);
+        s.cursor = base + BATCH;
+        long sum = 0;
+        for (int i = 0; i < BATCH; i++) {
+            sum += s.map.get(probes[base + i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long benchmarkOffHeapPut(OffHeapState s) {
+        long[] probes = s.probes;
+        int base = nextBatch(s.cursor, probes.length);
+        s.cursor = base + BATCH;
+        long sum = 0;
+        for (int i = 0; i < BATCH; i++) {
+            long key = probes[base + i];
+            sum += s.map.put(key, key + i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long benchmarkHeapGet(HeapState s) {
+        long[] probes = s.probes;
+        int base = nextBatch(s.cursor, probes.length);
+        s.cursor = base + BATCH;
+        long sum = 0;
+        for (int i = 0; i < BATCH; i++) {
+            sum += s.map.get(probes[base + i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long benchmarkHeapPut(HeapState s) {
+        long[] probes = s.probes;
+        int base = nextBatch(s.cursor, probes.length);
+        s.cursor = base + BATCH;
+        long sum = 0;
+        for (int i = 0; i < BATCH; i++) {
+            long key = probes[base + i];
+            sum += s.map.put(key, key + i);
+        }
+        return sum;
+    }
+
+    private static int nextBatch(int cursor, int length) {
+        return cursor + BATCH > length ? 0 : cursor;
+    }
+
+    /** Probe keys drawn uniformly from the populated range [1, entries]. */
+    private static long[] randomKeys(int entries) {
+        SplittableRandom random = new SplittableRandom(42);
+        long[] keys = new long[BATCH * 1024];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = 1 + random.nextLong(entries);
+        }
+        return keys;
+    }
+}
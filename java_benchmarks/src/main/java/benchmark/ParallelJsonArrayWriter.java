@@ -0,0 +1,144 @@
+package benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Serializes a list as one JSON array by encoding fixed-size chunks in
+ * parallel on a {@link ForkJoinPool}.
+ *
+ * <p>Each worker thread keeps its own {@link JsonGenerator} and
+ * {@link SequenceWriter} over a private growable buffer. A chunk is written there as comma-separated values, and the
+ * filled array is handed off as the chunk's result; the worker continues with
+ * a fresh array of the same capacity, so no chunk is copied. The caller writes
+ * {@code [}, the chunks in order with {@code ,} between them, and {@code ]}
+ * straight to the target stream, joining each chunk as it is needed while
+ * later ones are still being encoded. At most twice the pool's parallelism
+ * chunks are in flight, so the encoded output held at once stays bounded
+ * however long the list is.
+ */
+public final class ParallelJsonArrayWriter {
+
+    private final ObjectWriter writer;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final int maxInFlight;
+    private final ThreadLocal<Worker> workers;
+
+    public ParallelJsonArrayWriter(ObjectMapper mapper, ForkJoinPool pool, int chunkSize) {
+        this.writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.maxInFlight = 2 * pool.getParallelism();
+        this.workers = ThreadLocal.withInitial(Worker::new);
+    }
+
+    /** Writes {@code values} to {@code out} as a JSON array and returns the bytes written. */
+    public long write(List<?> values, OutputStream out) throws IOException {
+        int size = values.size();
+        ArrayDeque<ForkJoinTask<Chunk>> inFlight = new ArrayDeque<>(maxInFlight);
+        int next = 0;
+        int joined = 0;
+        out.write('[');
+        long written = 2;
+        while (next < size || !inFlight.isEmpty()) {
+            while (next < size && inFlight.size() < maxInFlight) {
+                List<?> slice = values.subList(next, Math.min(size, next + chunkSize));
+                inFlight.add(pool.submit(() -> workers.get().encode(slice)));
+                next += slice.size();
+            }
+            Chunk chunk = inFlight.poll().join();
+            if (joined++ > 0) {
+                out.write(',');
+                written++;
+            }
+            out.write(chunk.bytes, 0, chunk.length);
+            written += chunk.length;
+        }
+        out.write(']');
+        return written;
+    }
+
+    private record Chunk(byte[] bytes, int length) {
+    }
+
+    /** One per pool thread: a reusable generator writing into a buffer that is handed off per chunk. */
+    private final class Worker {
+        final ChunkOutput output = new ChunkOutput();
+        final JsonGenerator generator;
+        /** Keeps the serializer provider and lookups warm across values, unlike per-value writeValue. */
+        final SequenceWriter values;
+
+        Worker() {
+            try {
+                generator = writer.createGenerator(output);
+                // Commas are written explicitly; suppress the default space between root values
+                generator.setRootValueSeparator(null);
+                values = writer.writeValues(generator);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        Chunk encode(List<?> slice) {
+            try {
+                for (int i = 0; i < slice.size(); i++) {
+                    if (i > 0) {
+                        generator.writeRaw(',');
+                    }
+                    values.write(slice.get(i));
+                }
+                generator.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return output.detach();
+        }
+    }
+
+    /** Growable byte sink whose array is given away, not copied, at the end of each chunk. */
+    private static final class ChunkOutput extends OutputStream {
+        private byte[] buffer = new byte[8192];
+        private int count;
+
+        @Override
+        public void write(int b) {
+            ensure(1);
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensure(len);
+            System.arraycopy(b, off, buffer, count, len);
+            count += len;
+        }
+
+        Chunk detach() {
+            Chunk chunk = new Chunk(buffer, count);
+            // The next chunk is about the same size; start it at this one's capacity
+            buffer = new byte[buffer.length];
+            count = 0;
+            return chunk;
+        }
+
+        private void ensure(int extra) {
+            if (count + extra > buffer.length) {
+                byte[] grown = new byte[Math.max(buffer.length * 2, count + extra)];
+                System.arraycopy(buffer, 0, grown, 0, count);
+                buffer = grown;
+            }
+        }
+    }
+}
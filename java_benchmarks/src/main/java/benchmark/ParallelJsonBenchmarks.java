@@ -0,0 +1,102 @@
+package benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing a large {@code List<ComplexData>} as one JSON array, single
+ * threaded through databind versus chunked across {@code threads} workers with
+ * {@link ParallelJsonArrayWriter}. Output goes to a discarding stream so only
+ * encoding is measured; the {@code elements} counter reports elements/s.
+ *
+ * <p>{@code threads} defaults to 1, 2, 4 and 0 (one per available processor);
+ * {@code run_java_benchmarks.sh} sweeps powers of two up to the core count
+ * into {@code java_scaling_paralleljson.tsv}. The workers live in the
+ * {@link Pool} state, so the sequential baseline runs once per element count.
+ * Every element is a distinct object (~300 bytes of heap), so 5M elements
+ * need about {@code -jvmArgsAppend -Xmx4g}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParallelJsonBenchmarks {
+
+    @Param({"1000000", "5000000"})
+    public int elements;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<CompleteBenchmarks.ComplexData> data;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        data = new ArrayList<>(elements);
+        for (int i = 0; i < elements; i++) {
+            CompleteBenchmarks.ComplexData d = new CompleteBenchmarks.ComplexData();
+            d.id = i;
+            data.add(d);
+        }
+    }
+
+    /** The chunked writer and its workers; only the parallel benchmark takes it. */
+    @State(Scope.Benchmark)
+    public static class Pool {
+        /** Encoding workers; 0 means one per available processor. */
+        @Param({"1", "2", "4", "0"})
+        public int threads;
+
+        /** Elements per chunk; ~1024 keeps each chunk buffer well below G1's humongous threshold. */
+        @Param({"1024"})
+        public int chunkSize;
+
+        ForkJoinPool pool;
+        ParallelJsonArrayWriter writer;
+
+        @Setup(Level.Trial)
+        public void setup(ParallelJsonBenchmarks b) {
+            pool = new ForkJoinPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+            writer = new ParallelJsonArrayWriter(b.objectMapper, pool, chunkSize);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Elements {
+        /** Elements serialized; reported by JMH as a rate. */
+        public long elements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            elements = 0;
+        }
+    }
+
+    /** Single-threaded databind baseline. */
+    @Benchmark
+    public int benchmarkSequentialWrite(Elements e) throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), data);
+        e.elements += elements;
+        return elements;
+    }
+
+    @Benchmark
+    public long benchmarkParallelChunkedWrite(Pool p, Elements e) throws IOException {
+        long bytes = p.writer.write(data, OutputStream.nullOutputStream());
+        e.elements += elements;
+        return bytes;
+    }
+}
@@ -0,0 +1,69 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Segmented sieve sweep from the 10K/50K limits used by
+ * {@code benchmarkPrimeGeneration*} up to 1e9, where the bitmap no longer fits
+ * in cache and the run becomes a memory bandwidth and multi-core scaling test.
+ *
+ * <p>The 1e9 limit returns ~50.8M primes (~200MB as {@code int[]}, ~400MB as
+ * {@code long[]}); give the JVM a few GB of heap, e.g. {@code -Xmx4g}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PrimeBenchmarks {
+
+    @Param({"10000", "50000", "1000000", "100000000", "1000000000"})
+    public int limit;
+
+    /** Sieve segment size; 32KB matches a typical L1 data cache. */
+    @Param({"32768"})
+    public int segmentBytes;
+
+    /** Worker threads for the parallel mode; 0 means one per available processor. */
+    @Param({"0"})
+    public int parallelism;
+
+    private ForkJoinPool pool;
+    private PrimeEngine engine;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(threads);
+        engine = new PrimeEngine(segmentBytes, pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int[] benchmarkSegmentedSieve() {
+        return engine.primesBelow(limit);
+    }
+
+    @Benchmark
+    public long[] benchmarkSegmentedSieveLong() {
+        return engine.primesBelowAsLongs(limit);
+    }
+
+    @Benchmark
+    public int[] benchmarkSegmentedSieveParallel() {
+        return engine.primesBelowParallel(limit);
+    }
+
+    @Benchmark
+    public long[] benchmarkSegmentedSieveParallelLong() {
+        return engine.primesBelowParallelAsLongs(limit);
+    }
+}
@@ -0,0 +1,263 @@
+package benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Segmented Sieve of Eratosthenes over a bit-packed, odd-only bitmap.
+ *
+ * <p>Bit {@code i} stands for the odd number {@code 2i + 1}; a set bit marks a
+ * composite. The bitmap is sieved one segment of {@code segmentBytes} at a
+ * time so each segment's crossing-off stays inside L1. Like
+ * {@code CompleteBenchmarks.generatePrimes}, results are the primes strictly
+ * below {@code limit}, but returned as primitive arrays with no boxing.
+ *
+ * <p>The single-threaded mode reuses one segment buffer. The parallel mode
+ * sieves segments into disjoint slices of a shared bitmap on a
+ * {@link ForkJoinPool}, prefix-sums the per-segment prime counts, then
+ * extracts every segment straight into its slot of the output array.
+ */
+public final class PrimeEngine {
+
+    private final int segmentBits;
+    private final ForkJoinPool pool;
+
+    public PrimeEngine(int segmentBytes, ForkJoinPool pool) {
+        if (segmentBytes <= 0 || segmentBytes % Long.BYTES != 0) {
+            throw new IllegalArgumentException("segmentBytes must be a positive multiple of 8: " + segmentBytes);
+        }
+        this.segmentBits = segmentBytes * 8;
+        this.pool = pool;
+    }
+
+    public int[] primesBelow(int limit) {
+        int[] out = new int[estimateCount(limit)];
+        int count = sieveSequential(limit, (index, prime) -> out[index] = (int) prime);
+        return Arrays.copyOf(out, count);
+    }
+
+    public long[] primesBelowAsLongs(long limit) {
+        long[] out = new long[estimateCount(limit)];
+        int count = sieveSequential(limit, (index, prime) -> out[index] = prime);
+        return Arrays.copyOf(out, count);
+    }
+
+    public int[] primesBelowParallel(int limit) {
+        ParallelSieve sieve = sieveParallel(limit);
+        int[] out = new int[sieve.total];
+        sieve.extract((index, prime) -> out[index] = (int) prime);
+        return out;
+    }
+
+    public long[] primesBelowParallelAsLongs(long limit) {
+        ParallelSieve sieve = sieveParallel(limit);
+        long[] out = new long[sieve.total];
+        sieve.extract((index, prime) -> out[index] = prime);
+        return out;
+    }
+
+    @FunctionalInterface
+    private interface PrimeSink {
+        void accept(int index, long prime);
+    }
+
+    // ============================================================
+    // Sequential
+    // ============================================================
+
+    private int sieveSequential(long limit, PrimeSink sink) {
+        if (limit <= 2) {
+            return 0;
+        }
+        int[] basePrimes = oddPrimesUpTo((int) Math.sqrt((double) limit));
+        long totalBits = limit / 2;
+        long[] segment = new long[segmentBits / 64];
+        int count = 0;
+        sink.accept(count++, 2);
+        for (long lo = 0; lo < totalBits; lo += segmentBits) {
+            long hi = Math.min(lo + segmentBits, totalBits);
+            Arrays.fill(segment, 0L);
+            markComposites(segment, 0, lo, hi, basePrimes);
+            count = emit(segment, 0, lo, hi, count, sink);
+        }
+        return count;
+    }
+
+    // ============================================================
+    // Parallel
+    // ============================================================
+
+    private ParallelSieve sieveParallel(long limit) {
+        if (pool == null) {
+            throw new IllegalStateException("parallel sieve requires a ForkJoinPool");
+        }
+        return new ParallelSieve(limit);
+    }
+
+    private final class ParallelSieve {
+        private final long totalBits;
+        private final int segments;
+        private final long[] bitmap;
+        private final int[] offsets;
+        private final int total;
+
+        ParallelSieve(long limit) {
+            totalBits = limit <= 2 ? 0 : limit / 2;
+            long words = (totalBits + 63) / 64;
+            if (words > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("limit too large for a single bitmap: " + limit);
+            }
+            bitmap = new long[(int) words];
+            segments = (int) ((totalBits + segmentBits - 1) / segmentBits);
+            offsets = new int[segments + 1];
+            if (segments == 0) {
+                total = 0;
+                return;
+            }
+            int[] basePrimes = oddPrimesUpTo((int) Math.sqrt((double) limit));
+            int wordsPerSegment = segmentBits / 64;
+            pool.invoke(new SegmentRange(0, segments, seg -> {
+                long lo = (long) seg * segmentBits;
+                long hi = Math.min(lo + segmentBits, totalBits);
+                int wordOffset = seg * wordsPerSegment;
+                markComposites(bitmap, wordOffset, lo, hi, basePrimes);
+                offsets[seg + 1] = countClear(bitmap, wordOffset, lo, hi);
+            }));
+            // Slot 0 is reserved for the prime 2, which the odd-only bitmap cannot hold
+            offsets[0] = 1;
+            for (int seg = 0; seg < segments; seg++) {
+                offsets[seg + 1] += offsets[seg];
+            }
+            total = offsets[segments];
+        }
+
+        void extract(PrimeSink sink) {
+            if (segments == 0) {
+                return;
+            }
+            sink.accept(0, 2);
+            int wordsPerSegment = segmentBits / 64;
+            pool.invoke(new SegmentRange(0, segments, seg -> {
+                long lo = (long) seg * segmentBits;
+                long hi = Math.min(lo + segmentBits, totalBits);
+                emit(bitmap, seg * wordsPerSegment, lo, hi, offsets[seg], sink);
+            }));
+        }
+    }
+
+    /** Never serialized; ForkJoinTask is Serializable only by inheritance. */
+    @SuppressWarnings("serial")
+    private static final class SegmentRange extends RecursiveAction {
+        private final int from, to;
+        private final IntConsumer body;
+
+        SegmentRange(int from, int to, IntConsumer body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                body.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SegmentRange(from, mid, body), new SegmentRange(mid, to, body));
+        }
+    }
+
+    // ============================================================
+    // Bitmap kernels
+    // ============================================================
+
+    /**
+     * Marks odd composites whose bit index falls in [lo, hi). Bit {@code lo} is
+     * stored at bit 0 of {@code words[wordOffset]}.
+     */
+    private static void markComposites(long[] words, int wordOffset, long lo, long hi, int[] basePrimes) {
+        long firstOdd = 2 * lo + 1;
+        long lastOdd = 2 * hi - 1;
+        for (int p : basePrimes) {
+            long square = (long) p * p;
+            if (square > lastOdd) {
+                break;
+            }
+            long start = Math.max(square, ((firstOdd + p - 1) / p) * p);
+            if ((start & 1) == 0) {
+                start += p;
+            }
+            for (long bit = (start - 1) / 2 - lo; bit < hi - lo; bit += p) {
+                words[wordOffset + (int) (bit >>> 6)] |= 1L << bit;
+            }
+        }
+        if (lo == 0) {
+            // 1 is not prime
+            words[wordOffset] |= 1L;
+        }
+    }
+
+    private static int countClear(long[] words, int wordOffset, long lo, long hi) {
+        int bits = (int) (hi - lo);
+        int full = bits >>> 6;
+        int count = 0;
+        for (int w = 0; w < full; w++) {
+            count += Long.bitCount(~words[wordOffset + w]);
+        }
+        int rest = bits & 63;
+        if (rest != 0) {
+            count += Long.bitCount(~words[wordOffset + full] & ((1L << rest) - 1));
+        }
+        return count;
+    }
+
+    private static int emit(long[] words, int wordOffset, long lo, long hi, int index, PrimeSink sink) {
+        int bits = (int) (hi - lo);
+        int wordCount = (bits + 63) >>> 6;
+        for (int w = 0; w < wordCount; w++) {
+            long clear = ~words[wordOffset + w];
+            int valid = bits - (w << 6);
+            if (valid < 64) {
+                clear &= (1L << valid) - 1;
+            }
+            while (clear != 0) {
+                long bit = lo + ((long) w << 6) + Long.numberOfTrailingZeros(clear);
+                sink.accept(index++, 2 * bit + 1);
+                clear &= clear - 1;
+            }
+        }
+        return index;
+    }
+
+    /** Odd primes up to and including {@code max}, via a plain byte sieve. */
+    static int[] oddPrimesUpTo(int max) {
+        if (max < 3) {
+            return new int[0];
+        }
+        boolean[] composite = new boolean[max + 1];
+        int[] primes = new int[max / 2 + 1];
+        int count = 0;
+        for (int i = 3; i <= max; i += 2) {
+            if (composite[i]) {
+                continue;
+            }
+            primes[count++] = i;
+            for (long m = (long) i * i; m <= max; m += 2L * i) {
+                composite[(int) m] = true;
+            }
+        }
+        return Arrays.copyOf(primes, count);
+    }
+
+    /** Upper bound on pi(limit) (Rosser and Schoenfeld), used to size the sequential output. */
+    static int estimateCount(long limit) {
+        if (limit < 20) {
+            return 8;
+        }
+        double bound = 1.25506 * limit / Math.log(limit);
+        return (int) Math.min(Integer.MAX_VALUE - 8, (long) bound + 1);
+    }
+}
@@ -0,0 +1,113 @@
+package benchmark;
+
+/**
+ * Least-significant-digit radix sort for {@code int[]} and {@code long[]}
+ * using 8-bit digits.
+ *
+ * <p>All digit histograms are built in one read pass up front; a digit
+ * position where every key falls into the same bucket is skipped. Each
+ * remaining pass scatters between the input and a scratch array of the same
+ * length, and the result is copied back only if it ends up in the scratch
+ * array. The sign bit is flipped on the top digit so negative keys sort first.
+ */
+public final class RadixSort {
+
+    private static final int RADIX = 256;
+
+    private RadixSort() {
+    }
+
+    public static void sort(int[] a) {
+        sort(a, new int[a.length]);
+    }
+
+    public static void sort(int[] a, int[] scratch) {
+        int n = a.length;
+        if (scratch.length < n) {
+            throw new IllegalArgumentException("scratch shorter than input: " + scratch.length + " < " + n);
+        }
+        int[][] counts = new int[Integer.BYTES][RADIX];
+        for (int i = 0; i < n; i++) {
+            int key = a[i] ^ Integer.MIN_VALUE;
+            for (int d = 0; d < Integer.BYTES; d++) {
+                counts[d][(key >>> (d * 8)) & 0xFF]++;
+            }
+        }
+        int[] src = a, dst = scratch;
+        for (int d = 0; d < Integer.BYTES; d++) {
+            int[] count = counts[d];
+            if (isTrivial(count, n)) {
+                continue;
+            }
+            toOffsets(count);
+            int shift = d * 8;
+            for (int i = 0; i < n; i++) {
+                int value = src[i];
+                dst[count[((value ^ Integer.MIN_VALUE) >>> shift) & 0xFF]++] = value;
+            }
+            int[] t = src;
+            src = dst;
+            dst = t;
+        }
+        if (src != a) {
+            System.arraycopy(src, 0, a, 0, n);
+        }
+    }
+
+    public static void sort(long[] a) {
+        sort(a, new long[a.length]);
+    }
+
+    public static void sort(long[] a, long[] scratch) {
+        int n = a.length;
+        if (scratch.length < n) {
+            throw new IllegalArgumentException("scratch shorter than input: " + scratch.length + " < " + n);
+        }
+        int[][] counts = new int[Long.BYTES][RADIX];
+        for (int i = 0; i < n; i++) {
+            long key = a[i] ^ Long.MIN_VALUE;
+            for (int d = 0; d < Long.BYTES; d++) {
+                counts[d][(int) (key >>> (d * 8)) & 0xFF]++;
+            }
+        }
+        long[] src = a, dst = scratch;
+        for (int d = 0; d < Long.BYTES; d++) {
+            int[] count = counts[d];
+            if (isTrivial(count, n)) {
+                continue;
+            }
+            toOffsets(count);
+            int shift = d * 8;
+            for (int i = 0; i < n; i++) {
+                long value = src[i];
+                dst[count[(int) ((value ^ Long.MIN_VALUE) >>> shift) & 0xFF]++] = value;
+            }
+            long[] t = src;
+            src = dst;
+            dst = t;
+        }
+        if (src != a) {
+            System.arraycopy(src, 0, a, 0, n);
+        }
+    }
+
+    /** True when every key has the same digit, so the pass would not move anything. */
+    static boolean isTrivial(int[] count, long n) {
+        for (int c : count) {
+            if (c != 0) {
+                return c == n;
+            }
+        }
+        return true;
+    }
+
+    /** Turns a histogram into exclusive prefix sums, i.e. each bucket's first output index. */
+    static void toOffsets(int[] count) {
+        int sum = 0;
+        for (int b = 0; b < RADIX; b++) {
+            int c = count[b];
+            count[b] = sum;
+            sum += c;
+        }
+    }
+}
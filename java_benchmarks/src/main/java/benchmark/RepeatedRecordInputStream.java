@@ -0,0 +1,72 @@
+package benchmark;
+
+import java.io.InputStream;
+
+/**
+ * Streams {@code prefix}, {@code count} copies of {@code record} joined by
+ * {@code separator}, then {@code suffix}, without materializing the document,
+ * so multi-GB inputs cost no heap.
+ */
+final class RepeatedRecordInputStream extends InputStream {
+
+    private final byte[] prefix;
+    private final byte[] record;
+    private final byte[] separator;
+    private final byte[] suffix;
+    private final long count;
+
+    /** Index of the record being emitted; -1 for the prefix, {@code count} for the suffix. */
+    private long index = -1;
+    /** Position within the current piece (separator followed by record, for records after the first). */
+    private int offset;
+
+    RepeatedRecordInputStream(byte[] prefix, byte[] record, byte[] separator, byte[] suffix, long count) {
+        this.prefix = prefix;
+        this.record = record;
+        this.separator = separator;
+        this.suffix = suffix;
+        this.count = count;
+    }
+
+    @Override
+    public int read() {
+        byte[] one = new byte[1];
+        return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        int written = 0;
+        while (written < len) {
+            byte[] piece;
+            int pieceOffset = offset;
+            if (index < 0) {
+                piece = prefix;
+            } else if (index < count) {
+                int sepLength = index == 0 ? 0 : separator.length;
+                if (pieceOffset < sepLength) {
+                    piece = separator;
+                } else {
+                    piece = record;
+                    pieceOffset -= sepLength;
+                }
+            } else if (index == count) {
+                piece = suffix;
+            } else {
+                break;
+            }
+            int n = Math.min(len - written, piece.length - pieceOffset);
+            System.arraycopy(piece, pieceOffset, b, off + written, n);
+            written += n;
+            offset += n;
+            if (pieceOffset + n == piece.length && (piece != separator)) {
+                index++;
+                offset = 0;
+            }
+        }
+        return written == 0 ? -1 : written;
+    }
+}
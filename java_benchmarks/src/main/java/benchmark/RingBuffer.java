@@ -0,0 +1,254 @@
+package benchmark;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free FIFO ring buffer over a power-of-two array:
+ *
+ * <ul>
+ *   <li>{@link #spsc} - one producer thread and one consumer thread. Each side
+ *       publishes its sequence with a release store and keeps a plain cached
+ *       copy of the other side's, re-reading it with acquire only when the
+ *       cache says the buffer is full (or empty).</li>
+ *   <li>{@link #mpmc} - any number of producers and consumers. Every slot
+ *       carries its own sequence (Vyukov's bounded queue), so a thread claims a
+ *       position with one CAS and waits on nothing but that slot.</li>
+ * </ul>
+ *
+ * <p>The head and tail sequences sit 128 bytes apart inside one {@code long[]},
+ * so producers and consumers never share a cache line (or an adjacent-line
+ * prefetch pair). {@link #drain} hands over up to {@code limit} elements for
+ * one sequence update instead of one per element. Neither variant blocks: a
+ * full buffer rejects {@link #offer} and an empty one returns {@code null}.
+ */
+public abstract class RingBuffer<E> {
+
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /** Longs in 128 bytes. */
+    private static final int PAD = 16;
+    private static final int TAIL = PAD;
+    private static final int HEAD = 2 * PAD;
+
+    final Object[] elements;
+    final int mask;
+    /** {@code TAIL} and {@code HEAD} plus the owning side's scratch values next to each; the rest is padding. */
+    final long[] counters = new long[3 * PAD];
+
+    private RingBuffer(int capacity) {
+        if (capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be in [2, 2^30]: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.elements = new Object[size];
+        this.mask = size - 1;
+    }
+
+    /** @param capacity rounded up to a power of two */
+    public static <E> RingBuffer<E> spsc(int capacity) {
+        return new Spsc<>(capacity);
+    }
+
+    /** @param capacity rounded up to a power of two */
+    public static <E> RingBuffer<E> mpmc(int capacity) {
+        return new Mpmc<>(capacity);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /** Elements in the buffer at some instant during the call. */
+    public int size() {
+        long head = (long) LONGS.getAcquire(counters, HEAD);
+        long tail = (long) LONGS.getAcquire(counters, TAIL);
+        return (int) Math.max(0, Math.min(tail - head, capacity()));
+    }
+
+    /** Appends {@code e} unless the buffer is full. */
+    public abstract boolean offer(E e);
+
+    /** Removes the oldest element, or returns {@code null} if the buffer is empty. */
+    public abstract E poll();
+
+    /**
+     * Removes up to {@code limit} elements in order and passes each to {@code sink};
+     * returns how many. {@code sink} must not throw: elements the batch has
+     * claimed but not yet handed over would be lost.
+     */
+    public abstract int drain(Consumer<? super E> sink, int limit);
+
+    private static final class Spsc<E> extends RingBuffer<E> {
+        /** Producer's last view of {@code HEAD}, on the producer's line. */
+        private static final int HEAD_CACHE = TAIL + 1;
+        /** Consumer's last view of {@code TAIL}, on the consumer's line. */
+        private static final int TAIL_CACHE = HEAD + 1;
+
+        Spsc(int capacity) {
+            super(capacity);
+        }
+
+        @Override
+        public boolean offer(E e) {
+            Objects.requireNonNull(e);
+            long[] c = counters;
+            long tail = c[TAIL];
+            if (tail - c[HEAD_CACHE] > mask) {
+                c[HEAD_CACHE] = (long) LONGS.getAcquire(c, HEAD);
+                if (tail - c[HEAD_CACHE] > mask) {
+                    return false;
+                }
+            }
+            elements[(int) tail & mask] = e;
+            LONGS.setRelease(c, TAIL, tail + 1);
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E poll() {
+            long[] c = counters;
+            long head = c[HEAD];
+            if (head >= c[TAIL_CACHE]) {
+                c[TAIL_CACHE] = (long) LONGS.getAcquire(c, TAIL);
+                if (head >= c[TAIL_CACHE]) {
+                    return null;
+                }
+            }
+            int i = (int) head & mask;
+            E e = (E) elements[i];
+            elements[i] = null;
+            LONGS.setRelease(c, HEAD, head + 1);
+            return e;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public int drain(Consumer<? super E> sink, int limit) {
+            long[] c = counters;
+            long head = c[HEAD];
+            if (c[TAIL_CACHE] - head < limit) {
+                c[TAIL_CACHE] = (long) LONGS.getAcquire(c, TAIL);
+            }
+            int n = (int) Math.min(c[TAIL_CACHE] - head, limit);
+            for (int k = 0; k < n; k++) {
+                int i = (int) (head + k) & mask;
+                E e = (E) elements[i];
+                elements[i] = null;
+                sink.accept(e);
+            }
+            if (n > 0) {
+                LONGS.setRelease(c, HEAD, head + n);
+            }
+            return n;
+        }
+    }
+
+    private static final class Mpmc<E> extends RingBuffer<E> {
+        /**
+         * Per-slot sequence: {@code pos} when the slot is free for the producer
+         * of position {@code pos}, {@code pos + 1} once that element is published.
+         * The consumer frees it for the next lap by storing {@code pos + capacity}.
+         */
+        private final long[] sequences;
+
+        Mpmc(int capacity) {
+            super(capacity);
+            sequences = new long[elements.length];
+            for (int i = 0; i < sequences.length; i++) {
+                sequences[i] = i;
+            }
+        }
+
+        @Override
+        public boolean offer(E e) {
+            Objects.requireNonNull(e);
+            long tail = (long) LONGS.getOpaque(counters, TAIL);
+            while (true) {
+                int i = (int) tail & mask;
+                long diff = (long) LONGS.getAcquire(sequences, i) - tail;
+                if (diff == 0) {
+                    long witness = (long) LONGS.compareAndExchange(counters, TAIL, tail, tail + 1);
+                    if (witness == tail) {
+                        elements[i] = e;
+                        LONGS.setRelease(sequences, i, tail + 1);
+                        return true;
+                    }
+                    tail = witness;
+                } else if (diff < 0) {
+                    // Slot still holds the element from the previous lap
+                    return false;
+                } else {
+                    tail = (long) LONGS.getOpaque(counters, TAIL);
+                }
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E poll() {
+            long head = (long) LONGS.getOpaque(counters, HEAD);
+            while (true) {
+                int i = (int) head & mask;
+                long diff = (long) LONGS.getAcquire(sequences, i) - (head + 1);
+                if (diff == 0) {
+                    long witness = (long) LONGS.compareAndExchange(counters, HEAD, head, head + 1);
+                    if (witness == head) {
+                        E e = (E) elements[i];
+                        elements[i] = null;
+                        LONGS.setRelease(sequences, i, head + elements.length);
+                        return e;
+                    }
+                    head = witness;
+                } else if (diff < 0) {
+                    return null;
+                } else {
+                    head = (long) LONGS.getOpaque(counters, HEAD);
+                }
+            }
+        }
+
+        /** Claims the run of published slots at the head, up to {@code limit}, with a single CAS. */
+        @Override
+        @SuppressWarnings("unchecked")
+        public int drain(Consumer<? super E> sink, int limit) {
+            long head = (long) LONGS.getOpaque(counters, HEAD);
+            while (true) {
+                int n = 0;
+                long diff = 0;
+                while (n < limit) {
+                    long pos = head + n;
+                    diff = (long) LONGS.getAcquire(sequences, (int) pos & mask) - (pos + 1);
+                    if (diff != 0) {
+                        break;
+                    }
+                    n++;
+                }
+                if (n == 0) {
+                    if (diff < 0) {
+                        return 0;
+                    }
+                    head = (long) LONGS.getOpaque(counters, HEAD);
+                    continue;
+                }
+                long witness = (long) LONGS.compareAndExchange(counters, HEAD, head, head + n);
+                if (witness != head) {
+                    head = witness;
+                    continue;
+                }
+                for (int k = 0; k < n; k++) {
+                    long pos = head + k;
+                    int i = (int) pos & mask;
+                    E e = (E) elements[i];
+                    elements[i] = null;
+                    LONGS.setRelease(sequences, i, pos + elements.length);
+                    sink.accept(e);
+                }
+                return n;
+            }
+        }
+    }
+}
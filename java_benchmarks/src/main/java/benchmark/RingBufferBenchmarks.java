@@ -0,0 +1,332 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.Control;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Producer/consumer handoff through {@link RingBuffer} versus the JDK queues,
+ * with producers and consumers running for the whole iteration instead of the
+ * 100-element bursts of {@code benchmarkBlockingQueueOperations}.
+ * {@code benchmarkSpsc} runs one producer and one consumer, {@code benchmarkMpmc}
+ * two of each; change the split with {@code -tg 4,4}.
+ *
+ * <p>{@code queue=ring} is the SPSC buffer when the group is one producer and
+ * one consumer and the MPMC buffer otherwise; {@code mpmcRing} forces MPMC so
+ * the two can be compared at 1:1. Consumers take up to {@code batch} messages
+ * per drain ({@link RingBuffer#drain}, {@code drainTo} or repeated {@code poll}).
+ * Nobody blocks: on a full or empty queue the call retries with
+ * {@link Thread#onSpinWait()} until a message moves, and a consumer hands out
+ * one drained message per call, so every invocation is one message on one
+ * side. The primary score is therefore messages/s counted once by the
+ * producers and once by the consumers; the {@code sent} and {@code received}
+ * counters split it per side. Every 64th message
+ * carries its send time, and the handoff latency over the measurement
+ * iterations is reported as the {@code handoffP50Us}, {@code handoffP99Us} and
+ * {@code handoffMaxUs} secondary results.
+ *
+ * <p>Every queue holds at most {@code capacity} messages. The unbounded
+ * {@code LinkedTransferQueue} and {@code ConcurrentLinkedQueue} get the bound
+ * from a credit counter, one extra atomic per offer and per drain, so a fast
+ * producer cannot grow them without limit. Whatever is left in a queue is
+ * drained after each iteration, so every iteration starts empty.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RingBufferBenchmarks {
+
+    private static final int SAMPLE_EVERY = 64;
+    private static final Object TOKEN = new Object();
+
+    @Param({"ring", "mpmcRing", "ArrayBlockingQueue", "LinkedBlockingQueue", "LinkedTransferQueue", "ConcurrentLinkedQueue"})
+    public String queue;
+
+    /** Messages a queue can hold; a credit counter enforces it on the unbounded queues. */
+    @Param({"1024"})
+    public int capacity;
+
+    @Param({"1", "64"})
+    public int batch;
+
+    private Handoff handoff;
+    private final Consumer<Object> sink = this::receive;
+    private LatencyRecorder latency;
+    private volatile boolean measuring;
+
+    /** Sampled message: its send time, taken just before the offer. */
+    private record Stamp(long sentAt) {
+    }
+
+    /** The operations under test, so every queue is driven by the same producer and consumer loops. */
+    private interface Handoff {
+        boolean offer(Object message);
+
+        int drain(Consumer<Object> sink, int limit, ArrayList<Object> scratch);
+    }
+
+    @Setup(Level.Trial)
+    public void setup(BenchmarkParams params) {
+        boolean oneToOne = Arrays.equals(params.getThreadGroups(), new int[]{1, 1});
+        handoff = switch (queue) {
+            case "ring" -> ring(oneToOne ? RingBuffer.spsc(capacity) : RingBuffer.mpmc(capacity));
+            case "mpmcRing" -> ring(RingBuffer.mpmc(capacity));
+            case "ArrayBlockingQueue" -> blocking(new ArrayBlockingQueue<>(capacity));
+            case "LinkedBlockingQueue" -> blocking(new LinkedBlockingQueue<>(capacity));
+            case "LinkedTransferQueue" -> credited(blocking(new LinkedTransferQueue<>()), capacity);
+            case "ConcurrentLinkedQueue" -> credited(polling(new ConcurrentLinkedQueue<>()), capacity);
+            default -> throw new IllegalArgumentException("Unknown queue: " + queue);
+        };
+        latency = new LatencyRecorder();
+        measuring = false;
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration(IterationParams params) {
+        if (params.getType() == IterationType.MEASUREMENT && !measuring) {
+            measuring = true;
+            latency.reset();
+        }
+    }
+
+    /** Runs once every producer and consumer has stopped, so nothing races the drain. */
+    @TearDown(Level.Iteration)
+    public void drainBacklog() {
+        Consumer<Object> discard = message -> {
+        };
+        ArrayList<Object> scratch = new ArrayList<>();
+        int drained;
+        do {
+            drained = handoff.drain(discard, capacity, scratch);
+        } while (drained > 0);
+    }
+
+    private static Handoff ring(RingBuffer<Object> ring) {
+        return new Handoff() {
+            @Override
+            public boolean offer(Object message) {
+                return ring.offer(message);
+            }
+
+            @Override
+            public int drain(Consumer<Object> sink, int limit, ArrayList<Object> scratch) {
+                return ring.drain(sink, limit);
+            }
+        };
+    }
+
+    private static Handoff blocking(BlockingQueue<Object> queue) {
+        return new Handoff() {
+            @Override
+            public boolean offer(Object message) {
+                return queue.offer(message);
+            }
+
+            @Override
+            public int drain(Consumer<Object> sink, int limit, ArrayList<Object> scratch) {
+                if (limit == 1) {
+                    return deliver(queue.poll(), sink);
+                }
+                int n = queue.drainTo(scratch, limit);
+                for (int i = 0; i < n; i++) {
+                    sink.accept(scratch.get(i));
+                }
+                scratch.clear();
+                return n;
+            }
+        };
+    }
+
+    /** Bounds {@code queue} at {@code capacity} messages: an offer takes a credit, a drain returns them. */
+    private static Handoff credited(Handoff queue, int capacity) {
+        AtomicInteger credits = new AtomicInteger(capacity);
+        return new Handoff() {
+            @Override
+            public boolean offer(Object message) {
+                int available;
+                do {
+                    available = credits.get();
+                    if (available == 0) {
+                        return false;
+                    }
+                } while (!credits.compareAndSet(available, available - 1));
+                return queue.offer(message);
+            }
+
+            @Override
+            public int drain(Consumer<Object> sink, int limit, ArrayList<Object> scratch) {
+                int n = queue.drain(sink, limit, scratch);
+                if (n > 0) {
+                    credits.addAndGet(n);
+                }
+                return n;
+            }
+        };
+    }
+
+    private static Handoff polling(Queue<Object> queue) {
+        return new Handoff() {
+            @Override
+            public boolean offer(Object message) {
+                return queue.offer(message);
+            }
+
+            @Override
+            public int drain(Consumer<Object> sink, int limit, ArrayList<Object> scratch) {
+                int n = 0;
+                while (n < limit && deliver(queue.poll(), sink) == 1) {
+                    n++;
+                }
+                return n;
+            }
+        };
+    }
+
+    private static int deliver(Object message, Consumer<Object> sink) {
+        if (message == null) {
+            return 0;
+        }
+        sink.accept(message);
+        return 1;
+    }
+
+    private void receive(Object message) {
+        if (message != TOKEN && measuring) {
+            latency.record(System.nanoTime() - ((Stamp) message).sentAt());
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Sender {
+        /** Messages accepted by the queue; reported by JMH as messages/s. */
+        public long sent;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            sent = 0;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Receiver {
+        /** Messages taken from the queue; reported by JMH as messages/s. */
+        public long received;
+
+        final ArrayList<Object> scratch = new ArrayList<>();
+        /** Messages already drained but not yet counted by an invocation. */
+        int pending;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            received = 0;
+            pending = 0;
+        }
+    }
+
+    /** Handoff latency percentiles in microseconds, published once per trial by {@link TrialReport}. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HandoffLatency {
+        private final TrialReport report = new TrialReport();
+        private LatencyRecorder latency;
+
+        @Setup(Level.Iteration)
+        public void bind(RingBufferBenchmarks b, ThreadParams thread, IterationParams iteration) {
+            latency = report.reportsIn(thread, iteration) ? b.latency : null;
+        }
+
+        public double handoffP50Us() {
+            return latency == null ? 0 : latency.percentileMicros(0.50);
+        }
+
+        public double handoffP99Us() {
+            return latency == null ? 0 : latency.percentileMicros(0.99);
+        }
+
+        public double handoffMaxUs() {
+            return latency == null ? 0 : latency.percentileMicros(1.0);
+        }
+    }
+
+    // ============================================================
+    // Groups
+    // ============================================================
+
+    @Benchmark
+    @Group("benchmarkSpsc")
+    @GroupThreads(1)
+    public boolean spscProduce(Sender s, Control control) {
+        return produce(s, control);
+    }
+
+    @Benchmark
+    @Group("benchmarkSpsc")
+    @GroupThreads(1)
+    public boolean spscConsume(Receiver r, HandoffLatency l, Control control) {
+        return consume(r, control);
+    }
+
+    @Benchmark
+    @Group("benchmarkMpmc")
+    @GroupThreads(2)
+    public boolean mpmcProduce(Sender s, Control control) {
+        return produce(s, control);
+    }
+
+    @Benchmark
+    @Group("benchmarkMpmc")
+    @GroupThreads(2)
+    public boolean mpmcConsume(Receiver r, HandoffLatency l, Control control) {
+        return consume(r, control);
+    }
+
+    /** Spins until the message is accepted; gives up only when the iteration ends with the queue full. */
+    private boolean produce(Sender s, Control control) {
+        Object message = s.sent % SAMPLE_EVERY == 0 ? new Stamp(System.nanoTime()) : TOKEN;
+        while (!handoff.offer(message)) {
+            if (control.stopMeasurement) {
+                return false;
+            }
+            Thread.onSpinWait();
+        }
+        s.sent++;
+        return true;
+    }
+
+    /** Takes one message, draining up to {@code batch} from the queue whenever the last drain is used up. */
+    private boolean consume(Receiver r, Control control) {
+        if (r.pending == 0) {
+            int n;
+            while ((n = handoff.drain(sink, batch, r.scratch)) == 0) {
+                if (control.stopMeasurement) {
+                    return false;
+                }
+                Thread.onSpinWait();
+            }
+            r.pending = n;
+        }
+        r.pending--;
+        r.received++;
+        return true;
+    }
+}
@@ -0,0 +1,73 @@
+package benchmark;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * LSD radix sort over {@code long} elements stored in a {@link MemorySegment},
+ * for datasets past the roughly 2^31-element limit of a Java array, and so
+ * that large inputs and their scratch buffer live off-heap, outside the
+ * collector's view.
+ *
+ * <p>Same algorithm as {@link RadixSort}, with {@code long} indices and
+ * histograms so element counts are bounded only by native memory.
+ */
+public final class SegmentSort {
+
+    private static final int RADIX = 256;
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG;
+
+    private SegmentSort() {
+    }
+
+    /**
+     * Sorts the first {@code count} longs of {@code data}, using {@code scratch}
+     * (at least as large) as the ping-pong buffer.
+     */
+    public static void sortLongs(MemorySegment data, MemorySegment scratch, long count) {
+        long bytes = count * Long.BYTES;
+        if (data.byteSize() < bytes || scratch.byteSize() < bytes) {
+            throw new IllegalArgumentException("segments too small for " + count + " longs");
+        }
+        long[][] counts = new long[Long.BYTES][RADIX];
+        for (long i = 0; i < count; i++) {
+            long key = data.getAtIndex(LONG, i) ^ Long.MIN_VALUE;
+            for (int d = 0; d < Long.BYTES; d++) {
+                counts[d][(int) (key >>> (d * 8)) & 0xFF]++;
+            }
+        }
+        MemorySegment src = data, dst = scratch;
+        for (int d = 0; d < Long.BYTES; d++) {
+            long[] offsets = counts[d];
+            if (isTrivial(offsets, count)) {
+                continue;
+            }
+            long sum = 0;
+            for (int b = 0; b < RADIX; b++) {
+                long c = offsets[b];
+                offsets[b] = sum;
+                sum += c;
+            }
+            int shift = d * 8;
+            for (long i = 0; i < count; i++) {
+                long value = src.getAtIndex(LONG, i);
+                dst.setAtIndex(LONG, offsets[(int) ((value ^ Long.MIN_VALUE) >>> shift) & 0xFF]++, value);
+            }
+            MemorySegment t = src;
+            src = dst;
+            dst = t;
+        }
+        if (src != data) {
+            MemorySegment.copy(src, 0, data, 0, bytes);
+        }
+    }
+
+    private static boolean isTrivial(long[] count, long n) {
+        for (long c : count) {
+            if (c != 0) {
+                return c == n;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,54 @@
+package benchmark;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Thread-local bump allocator carving {@link ByteBuffer} slices out of one
+ * large slab per thread.
+ *
+ * <p>An allocation is a bounds check, a pointer bump and a slice; no lock and
+ * no zeroing. When the slab is exhausted the thread starts again from offset
+ * 0, so a slice is only valid until its thread has allocated another
+ * {@code slabBytes} - the request-scoped lifetime slab allocators rely on.
+ */
+public final class SlabAllocator {
+
+    private final int slabBytes;
+    private final boolean direct;
+    private final ThreadLocal<Slab> slabs;
+
+    public SlabAllocator(int slabBytes, boolean direct) {
+        if (slabBytes <= 0) {
+            throw new IllegalArgumentException("slabBytes must be positive: " + slabBytes);
+        }
+        this.slabBytes = slabBytes;
+        this.direct = direct;
+        this.slabs = ThreadLocal.withInitial(this::newSlab);
+    }
+
+    public ByteBuffer allocate(int size) {
+        if (size <= 0 || size > slabBytes) {
+            throw new IllegalArgumentException("size must be in (0, " + slabBytes + "]: " + size);
+        }
+        Slab slab = slabs.get();
+        if (slab.position + size > slabBytes) {
+            slab.position = 0;
+        }
+        ByteBuffer slice = slab.memory.slice(slab.position, size);
+        slab.position += size;
+        return slice;
+    }
+
+    private Slab newSlab() {
+        return new Slab(direct ? ByteBuffer.allocateDirect(slabBytes) : ByteBuffer.allocate(slabBytes));
+    }
+
+    private static final class Slab {
+        final ByteBuffer memory;
+        int position;
+
+        Slab(ByteBuffer memory) {
+            this.memory = memory;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorting suite from 100K to 10M elements.
+ *
+ * <p>Unlike {@code benchmarkSortingInts*}, the unsorted input is restored in a
+ * {@code Level.Invocation} setup, so the measured region holds only the sort;
+ * {@code benchmarkCopy*} measures the {@code Arrays.copyOf} that used to be
+ * inside it. Each sort also bumps the {@code elements} aux counter by the
+ * input size, so JMH reports sorted elements per second next to ops/s.
+ *
+ * <p>100M and 500M are opt-in with {@code -p size=100000000,500000000}. At 500M
+ * the {@code int[]} states hold three arrays (~6GB heap), the {@code long[]}
+ * states ~12GB heap, and the off-heap state two 4GB segments of native memory,
+ * so pass a matching {@code -jvmArgsAppend -Xmx} as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SortBenchmarks {
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Elements {
+        /** Elements sorted; reported by JMH as a rate. */
+        public long elements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            elements = 0;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class IntData {
+        @Param({"100000", "1000000", "10000000"})
+        public int size;
+
+        int[] source;
+        int[] work;
+        int[] scratch;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(42);
+            source = new int[size];
+            for (int i = 0; i < size; i++) {
+                source[i] = random.nextInt();
+            }
+            work = new int[size];
+            scratch = new int[size];
+        }
+
+        @Setup(Level.Invocation)
+        public void restore() {
+            System.arraycopy(source, 0, work, 0, size);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class LongData {
+        @Param({"100000", "1000000", "10000000"})
+        public int size;
+
+        long[] source;
+        long[] work;
+        long[] scratch;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(42);
+            source = new long[size];
+            for (int i = 0; i < size; i++) {
+                source[i] = random.nextLong();
+            }
+            work = new long[size];
+            scratch = new long[size];
+        }
+
+        @Setup(Level.Invocation)
+        public void restore() {
+            System.arraycopy(source, 0, work, 0, size);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SegmentData {
+        @Param({"100000", "1000000", "10000000"})
+        public long size;
+
+        Arena arena;
+        MemorySegment work;
+        MemorySegment scratch;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            arena = Arena.ofShared();
+            work = arena.allocate(size * Long.BYTES, 64);
+            scratch = arena.allocate(size * Long.BYTES, 64);
+        }
+
+        /** Regenerates the same input in place rather than keeping a third multi-GB copy. */
+        @Setup(Level.Invocation)
+        public void restore() {
+            SplittableRandom random = new SplittableRandom(42);
+            for (long i = 0; i < size; i++) {
+                work.setAtIndex(ValueLayout.JAVA_LONG, i, random.nextLong());
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            arena.close();
+        }
+    }
+
+    // ============================================================
+    // int[]
+    // ============================================================
+
+    @Benchmark
+    public int[] benchmarkCopyInts(IntData d) {
+        return Arrays.copyOf(d.source, d.size);
+    }
+
+    @Benchmark
+    public int[] benchmarkSortInts(IntData d, Elements e) {
+        Arrays.sort(d.work);
+        e.elements += d.size;
+        return d.work;
+    }
+
+    @Benchmark
+    public int[] benchmarkParallelSortInts(IntData d, Elements e) {
+        Arrays.parallelSort(d.work);
+        e.elements += d.size;
+        return d.work;
+    }
+
+    @Benchmark
+    public int[] benchmarkRadixSortInts(IntData d, Elements e) {
+        RadixSort.sort(d.work, d.scratch);
+        e.elements += d.size;
+        return d.work;
+    }
+
+    // ============================================================
+    // long[]
+    // ============================================================
+
+    @Benchmark
+    public long[] benchmarkCopyLongs(LongData d) {
+        return Arrays.copyOf(d.source, d.size);
+    }
+
+    @Benchmark
+    public long[] benchmarkSortLongs(LongData d, Elements e) {
+        Arrays.sort(d.work);
+        e.elements += d.size;
+        return d.work;
+    }
+
+    @Benchmark
+    public long[] benchmarkParallelSortLongs(LongData d, Elements e) {
+        Arrays.parallelSort(d.work);
+        e.elements += d.size;
+        return d.work;
+    }
+
+    @Benchmark
+    public long[] benchmarkRadixSortLongs(LongData d, Elements e) {
+        RadixSort.sort(d.work, d.scratch);
+        e.elements += d.size;
+        return d.work;
+    }
+
+    // ============================================================
+    // Off-heap
+    // ============================================================
+
+    @Benchmark
+    public MemorySegment benchmarkRadixSortSegment(SegmentData d, Elements e) {
+        SegmentSort.sortLongs(d.work, d.scratch, d.size);
+        e.elements += d.size;
+        return d.work;
+    }
+}
@@ -0,0 +1,57 @@
+package benchmark;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Counter split into cache-line-padded stripes of one {@code long[]}, a fixed
+ * version of what {@link java.util.concurrent.atomic.LongAdder} grows into.
+ *
+ * <p>Each thread adds to the stripe its id hashes to with {@code getAndAdd},
+ * which never fails, so there is no retry loop and no cell growth; threads
+ * that share a stripe simply contend on it. {@link #sum()} reads every stripe
+ * with opaque loads and is not an atomic snapshot while adds are in flight.
+ */
+public final class StripedLongCounter {
+
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /** Longs in 128 bytes, so neighbouring stripes never share a line or an adjacent-line prefetch. */
+    private static final int PAD = 16;
+
+    private final long[] cells;
+    private final int mask;
+
+    /** @param stripes rounded up to a power of two */
+    public StripedLongCounter(int stripes) {
+        if (stripes <= 0 || stripes > 1 << 24) {
+            throw new IllegalArgumentException("stripes must be in [1, 2^24]: " + stripes);
+        }
+        int count = Integer.highestOneBit(Math.max(stripes - 1, 1)) << 1;
+        // One extra stripe of padding in front keeps stripe 0 off the array header's line
+        this.cells = new long[(count + 1) * PAD];
+        this.mask = count - 1;
+    }
+
+    public void increment() {
+        add(1);
+    }
+
+    public void add(long x) {
+        LONGS.getAndAdd(cells, index(), x);
+    }
+
+    public long sum() {
+        long sum = 0;
+        for (int i = PAD; i < cells.length; i += PAD) {
+            sum += (long) LONGS.getOpaque(cells, i);
+        }
+        return sum;
+    }
+
+    private int index() {
+        long id = Thread.currentThread().threadId();
+        int stripe = (int) (id * 0x9E3779B97F4A7C15L >>> 32) & mask;
+        return (stripe + 1) * PAD;
+    }
+}
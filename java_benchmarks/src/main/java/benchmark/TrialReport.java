@@ -0,0 +1,32 @@
+package benchmark;
+
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.openjdk.jmh.runner.IterationType;
+
+/**
+ * Picks the one thread and iteration that publish a trial-wide value, such as
+ * a latency percentile or an encoded size, through an
+ * {@code @AuxCounters(AuxCounters.Type.EVENTS)} state.
+ *
+ * <p>JMH sums EVENTS counters over threads and over measurement iterations, so
+ * such a value must appear exactly once: on the first thread of the first
+ * group, after the last measurement iteration. Every other thread and
+ * iteration reports 0. Call {@link #reportsIn} from the aux state's
+ * {@code @Setup(Level.Iteration)} and publish through public methods: JMH
+ * zeroes public counter fields when the iteration starts, after that setup.
+ */
+public final class TrialReport {
+
+    private int measured;
+
+    /** Whether this thread reports at the end of the iteration about to start. */
+    public boolean reportsIn(ThreadParams thread, IterationParams iteration) {
+        if (iteration.getType() != IterationType.MEASUREMENT) {
+            measured = 0;
+            return false;
+        }
+        return ++measured == iteration.getCount()
+                && thread.getGroupIndex() == 0 && thread.getSubgroupThreadIndex() == 0;
+    }
+}
@@ -0,0 +1,327 @@
+package benchmark;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SIMD variants of the CPU-bound kernels using the incubating Vector API,
+ * each paired with the scalar loop it replaces so the speedup can be read
+ * straight off the results. Lane width follows the preferred species, so the
+ * same jar uses AVX2 or AVX-512 depending on the host.
+ *
+ * <p>Lives outside {@link CompleteBenchmarks} so that class never links
+ * against {@code jdk.incubator.vector}; the module is added to the forked
+ * JVM here and by {@code run_java_benchmarks.sh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class VectorBenchmarks {
+
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> FLOAT_SPECIES = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> BYTE_SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    // ============================================================
+    // Matrix Multiply
+    // ============================================================
+
+    @State(Scope.Benchmark)
+    public static class MatrixState {
+        @Param({"64", "256", "1024"})
+        public int size;
+
+        int[] intA, intB;
+        float[] floatA, floatB;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            Random random = new Random(42);
+            int cells = size * size;
+            intA = new int[cells];
+            intB = new int[cells];
+            floatA = new float[cells];
+            floatB = new float[cells];
+            for (int i = 0; i < cells; i++) {
+                intA[i] = random.nextInt(100);
+                intB[i] = random.nextInt(100);
+                floatA[i] = intA[i];
+                floatB[i] = intB[i];
+            }
+        }
+    }
+
+    @Benchmark
+    public int[] benchmarkMatrixIntScalar(MatrixState s) {
+        int n = s.size;
+        int[] a = s.intA, b = s.intB;
+        int[] c = new int[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int k = 0; k < n; k++) {
+                int aik = a[i * n + k];
+                for (int j = 0; j < n; j++) {
+                    c[i * n + j] += aik * b[k * n + j];
+                }
+            }
+        }
+        return c;
+    }
+
+    @Benchmark
+    public int[] benchmarkMatrixIntVector(MatrixState s) {
+        int n = s.size;
+        int[] a = s.intA, b = s.intB;
+        int[] c = new int[n * n];
+        int upper = INT_SPECIES.loopBound(n);
+        for (int i = 0; i < n; i++) {
+            int rowC = i * n;
+            for (int k = 0; k < n; k++) {
+                int aik = a[rowC + k];
+                IntVector va = IntVector.broadcast(INT_SPECIES, aik);
+                int rowB = k * n;
+                int j = 0;
+                for (; j < upper; j += INT_SPECIES.length()) {
+                    IntVector vb = IntVector.fromArray(INT_SPECIES, b, rowB + j);
+                    IntVector vc = IntVector.fromArray(INT_SPECIES, c, rowC + j);
+                    va.mul(vb).add(vc).intoArray(c, rowC + j);
+                }
+                for (; j < n; j++) {
+                    c[rowC + j] += aik * b[rowB + j];
+                }
+            }
+        }
+        return c;
+    }
+
+    @Benchmark
+    public float[] benchmarkMatrixFloatScalar(MatrixState s) {
+        int n = s.size;
+        float[] a = s.floatA, b = s.floatB;
+        float[] c = new float[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int k = 0; k < n; k++) {
+                float aik = a[i * n + k];
+                for (int j = 0; j < n; j++) {
+                    c[i * n + j] += aik * b[k * n + j];
+                }
+            }
+        }
+        return c;
+    }
+
+    @Benchmark
+    public float[] benchmarkMatrixFloatVector(MatrixState s) {
+        int n = s.size;
+        float[] a = s.floatA, b = s.floatB;
+        float[] c = new float[n * n];
+        int upper = FLOAT_SPECIES.loopBound(n);
+        for (int i = 0; i < n; i++) {
+            int rowC = i * n;
+            for (int k = 0; k < n; k++) {
+                float aik = a[rowC + k];
+                FloatVector va = FloatVector.broadcast(FLOAT_SPECIES, aik);
+                int rowB = k * n;
+                int j = 0;
+                for (; j < upper; j += FLOAT_SPECIES.length()) {
+                    FloatVector vb = FloatVector.fromArray(FLOAT_SPECIES, b, rowB + j);
+                    FloatVector vc = FloatVector.fromArray(FLOAT_SPECIES, c, rowC + j);
+                    va.fma(vb, vc).intoArray(c, rowC + j);
+                }
+                for (; j < n; j++) {
+                    c[rowC + j] += aik * b[rowB + j];
+                }
+            }
+        }
+        return c;
+    }
+
+    // ============================================================
+    // Reductions
+    // ============================================================
+
+    @State(Scope.Benchmark)
+    public static class ArrayState {
+        @Param({"10000", "1000000"})
+        public int length;
+
+        int[] ints;
+        float[] floatsA, floatsB;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            Random random = new Random(42);
+            ints = new int[length];
+            floatsA = new float[length];
+            floatsB = new float[length];
+            for (int i = 0; i < length; i++) {
+                ints[i] = i;
+                floatsA[i] = random.nextFloat();
+                floatsB[i] = random.nextFloat();
+            }
+        }
+    }
+
+    @Benchmark
+    public int benchmarkSumScalar(ArrayState s) {
+        int[] data = s.ints;
+        int sum = 0;
+        for (int i = 0; i < data.length; i++) {
+            sum += data[i];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int benchmarkSumVector(ArrayState s) {
+        int[] data = s.ints;
+        int upper = INT_SPECIES.loopBound(data.length);
+        IntVector acc = IntVector.zero(INT_SPECIES);
+        int i = 0;
+        for (; i < upper; i += INT_SPECIES.length()) {
+            acc = acc.add(IntVector.fromArray(INT_SPECIES, data, i));
+        }
+        int sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < data.length; i++) {
+            sum += data[i];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float benchmarkDotProductScalar(ArrayState s) {
+        float[] a = s.floatsA, b = s.floatsB;
+        float sum = 0f;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float benchmarkDotProductVector(ArrayState s) {
+        float[] a = s.floatsA, b = s.floatsB;
+        int upper = FLOAT_SPECIES.loopBound(a.length);
+        FloatVector acc = FloatVector.zero(FLOAT_SPECIES);
+        int i = 0;
+        for (; i < upper; i += FLOAT_SPECIES.length()) {
+            FloatVector va = FloatVector.fromArray(FLOAT_SPECIES, a, i);
+            FloatVector vb = FloatVector.fromArray(FLOAT_SPECIES, b, i);
+            acc = va.fma(vb, acc);
+        }
+        float sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    // ============================================================
+    // Sieve Marking
+    // ============================================================
+
+    @State(Scope.Benchmark)
+    public static class SieveState {
+        @Param({"50000", "10000000"})
+        public int limit;
+
+        /**
+         * patterns[p] has a 1 at every multiple of p, padded by one vector so
+         * any phase in [0, p) can be loaded as a full vector.
+         */
+        byte[][] patterns;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            int lanes = BYTE_SPECIES.length();
+            patterns = new byte[lanes + 1][];
+            for (int p = 2; p <= lanes; p++) {
+                byte[] pattern = new byte[p + lanes];
+                for (int i = 0; i < pattern.length; i += p) {
+                    pattern[i] = 1;
+                }
+                patterns[p] = pattern;
+            }
+        }
+    }
+
+    @Benchmark
+    public int benchmarkSieveScalar(SieveState s) {
+        int limit = s.limit;
+        byte[] composite = new byte[limit];
+        for (int p = 2; (long) p * p < limit; p++) {
+            if (composite[p] == 0) {
+                for (int m = p * p; m < limit; m += p) {
+                    composite[m] = 1;
+                }
+            }
+        }
+        int count = 0;
+        for (int i = 2; i < limit; i++) {
+            if (composite[i] == 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Primes narrower than a vector are marked by OR-ing a precomputed
+     * phase-shifted pattern a whole vector at a time; wider strides touch at
+     * most one byte per vector, so they keep the scalar loop. The final count
+     * is a vectorized compare-and-popcount.
+     */
+    @Benchmark
+    public int benchmarkSieveVector(SieveState s) {
+        int limit = s.limit;
+        int lanes = BYTE_SPECIES.length();
+        byte[] composite = new byte[limit];
+        int upper = BYTE_SPECIES.loopBound(limit);
+        for (int p = 2; (long) p * p < limit; p++) {
+            if (composite[p] != 0) {
+                continue;
+            }
+            int start = p * p;
+            if (p > lanes) {
+                for (int m = start; m < limit; m += p) {
+                    composite[m] = 1;
+                }
+                continue;
+            }
+            byte[] pattern = s.patterns[p];
+            int aligned = Math.min(((start + lanes - 1) / lanes) * lanes, limit);
+            for (int m = start; m < aligned; m += p) {
+                composite[m] = 1;
+            }
+            int i = aligned;
+            for (; i < upper; i += lanes) {
+                ByteVector marks = ByteVector.fromArray(BYTE_SPECIES, pattern, i % p);
+                ByteVector.fromArray(BYTE_SPECIES, composite, i).or(marks).intoArray(composite, i);
+            }
+            for (int m = i + (p - i % p) % p; m < limit; m += p) {
+                composite[m] = 1;
+            }
+        }
+        int count = 0;
+        int i = 0;
+        for (; i < upper; i += lanes) {
+            count += ByteVector.fromArray(BYTE_SPECIES, composite, i).eq((byte) 0).trueCount();
+        }
+        for (; i < limit; i++) {
+            if (composite[i] == 0) {
+                count++;
+            }
+        }
+        // 0 and 1 are never marked but are not prime
+        return count - Math.min(limit, 2);
+    }
+}
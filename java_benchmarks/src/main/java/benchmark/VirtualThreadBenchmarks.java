@@ -0,0 +1,142 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fan-out of {@code tasks} short tasks and waiting for all of them, the
+ * {@code benchmarkThreads10/100/1000} pattern, on a fixed 100-thread platform
+ * pool ({@link CompleteBenchmarks.ExecutorState} with {@code executor=fixed100})
+ * versus virtual threads ({@code newVirtualThreadPerTaskExecutor}
+ * and one {@code Thread.ofVirtual()} per task). One op is the whole fan-out;
+ * the {@code tasks} counter reports tasks/s, which is what compares with Go's
+ * {@code BenchmarkGoroutines*}.
+ *
+ * <p>{@code work} picks the task body: {@code cpu} burns a fixed amount of CPU,
+ * {@code sleep} sleeps 1ms and {@code queue} blocks on a shared queue until the
+ * submitter has submitted every task and hands out one token each. The blocking
+ * bodies are where virtual threads should pull away; 1M blocked virtual threads
+ * alive at once may need a larger heap ({@code -jvmArgsAppend -Xmx2g}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class VirtualThreadBenchmarks {
+
+    private static final long CPU_TOKENS = 1000;
+    private static final long SLEEP_MILLIS = 1;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int tasks;
+
+    @Param({"cpu", "sleep", "queue"})
+    public String work;
+
+    private ExecutorService platformPool;
+    private final BlockingQueue<Boolean> tokens = new LinkedBlockingQueue<>();
+    private Runnable body;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        platformPool = Executors.newFixedThreadPool(100);
+        body = switch (work) {
+            case "cpu" -> () -> Blackhole.consumeCPU(CPU_TOKENS);
+            case "sleep" -> () -> {
+                try {
+                    Thread.sleep(SLEEP_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+            case "queue" -> () -> {
+                try {
+                    tokens.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+            default -> throw new IllegalArgumentException("Unknown work: " + work);
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        platformPool.shutdownNow();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Tasks {
+        /** Tasks completed; reported by JMH as tasks/s. */
+        public long tasks;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            tasks = 0;
+        }
+    }
+
+    /** Baseline: 100 platform threads, the {@code executor=fixed100} pool of {@code CompleteBenchmarks}. */
+    @Benchmark
+    public void benchmarkPlatformPool(Tasks t) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(tasks);
+        for (int i = 0; i < tasks; i++) {
+            platformPool.submit(() -> runTask(latch));
+        }
+        releaseTokens();
+        latch.await();
+        t.tasks += tasks;
+    }
+
+    /** A fresh virtual-thread-per-task executor per fan-out; {@code close()} waits for every task. */
+    @Benchmark
+    public void benchmarkVirtualExecutor(Tasks t) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < tasks; i++) {
+                executor.submit(body);
+            }
+            releaseTokens();
+        }
+        t.tasks += tasks;
+    }
+
+    /** One unpooled {@code Thread.ofVirtual().start} per task, without the executor's bookkeeping. */
+    @Benchmark
+    public void benchmarkThreadOfVirtual(Tasks t) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(tasks);
+        Thread.Builder builder = Thread.ofVirtual();
+        for (int i = 0; i < tasks; i++) {
+            builder.start(() -> runTask(latch));
+        }
+        releaseTokens();
+        latch.await();
+        t.tasks += tasks;
+    }
+
+    private void runTask(CountDownLatch latch) {
+        try {
+            body.run();
+        } finally {
+            latch.countDown();
+        }
+    }
+
+    /** For {@code queue} work, unblocks the fan-out only once every task has been submitted. */
+    private void releaseTokens() {
+        if (work.equals("queue")) {
+            for (int i = 0; i < tasks; i++) {
+                tokens.add(Boolean.TRUE);
+            }
+        }
+    }
+}
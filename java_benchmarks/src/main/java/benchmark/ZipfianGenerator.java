@@ -0,0 +1,63 @@
+package benchmark;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Zipf-distributed ranks in {@code [0, items)}, rank 0 the most frequent,
+ * using the rejection-free method of Gray et al. ("Quickly Generating
+ * Billion-Record Synthetic Databases") that YCSB uses.
+ *
+ * <p>Construction sums {@code items} terms of the zeta function, which takes
+ * a few hundred milliseconds at 10M items; {@link #next} is O(1). With the YCSB
+ * default {@code theta = 0.99}, rank 0 draws about 5% of requests at 10M
+ * items and the top 1% of ranks about 70%.
+ */
+public final class ZipfianGenerator {
+
+    private final long items;
+    private final double theta;
+    private final double zetaN;
+    private final double alpha;
+    private final double eta;
+    private final double secondRankThreshold;
+
+    public ZipfianGenerator(long items, double theta) {
+        if (items < 2 || theta <= 0 || theta >= 1) {
+            throw new IllegalArgumentException("need items >= 2 and 0 < theta < 1: " + items + ", " + theta);
+        }
+        this.items = items;
+        this.theta = theta;
+        this.zetaN = zeta(items, theta);
+        this.alpha = 1 / (1 - theta);
+        this.eta = (1 - Math.pow(2.0 / items, 1 - theta)) / (1 - zeta(2, theta) / zetaN);
+        this.secondRankThreshold = 1 + Math.pow(0.5, theta);
+    }
+
+    public long items() {
+        return items;
+    }
+
+    public double theta() {
+        return theta;
+    }
+
+    public long next(RandomGenerator random) {
+        double u = random.nextDouble();
+        double uz = u * zetaN;
+        if (uz < 1) {
+            return 0;
+        }
+        if (uz < secondRankThreshold) {
+            return 1;
+        }
+        return Math.min(items - 1, (long) (items * Math.pow(eta * u - eta + 1, alpha)));
+    }
+
+    private static double zeta(long n, double theta) {
+        double sum = 0;
+        for (long i = 1; i <= n; i++) {
+            sum += 1 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+}
@@ -133,28 +133,47 @@ echo -e "${CYAN}========================================${NC}\n"
 # Get Java version
 JAVA_VERSION=$(java -version 2>&1 | head -n 1 | cut -d'"' -f2 | cut -d'.' -f1)
 
+# JVM flags for every run; JMH forks inherit the parent's JVM arguments.
+# The Vector API is still an incubator module and must be added explicitly,
+# and the Foreign Memory API (MemorySegment/Arena) is a preview API on JDK 21.
+JVM_OPTS="--add-modules jdk.incubator.vector --enable-preview"
+
+# JMH options for every run. The GC profiler adds gc.alloc.rate.norm (B/op)
+# and gc.count to each result, which the analyzer reads from the JSON files;
+# GcPauseProfiler adds each benchmark's own pause count and p50/p99/max (ms).
+JMH_OPTS="-prof gc -prof benchmark.GcPauseProfiler"
+
+# Every run below covers the whole jar. A trial is 3x2s warmup plus 5x2s
+# measurement and a fork, so estimate from the trial count JMH would run at
+# the current @Param defaults rather than promising a fixed time.
+TRIALS=$(java $JVM_OPTS -jar "$PROJECT_DIR/target/benchmarks.jar" -lp 2>/dev/null | awk '
+    /^ +param / { combos *= split($0, v, ","); next }
+    /^benchmark\./ { if (seen) total += combos; combos = 1; seen = 1 }
+    END { if (seen) total += combos; print total + 0 }')
+MINUTES_PER_GC=$((TRIALS * 17 / 60))
+
 # Default GC
 echo -e "${YELLOW}Running benchmarks with default GC...${NC}"
-echo -e "${CYAN}This will take 15-20 minutes...${NC}\n"
-java -jar "$PROJECT_DIR/target/benchmarks.jar" \
-    -rf json -rff "$RESULTS_DIR/java_results_default.json" \
+echo -e "${CYAN}$TRIALS trials per collector, roughly $MINUTES_PER_GC minutes each (more for large setups)...${NC}\n"
+java $JVM_OPTS -jar "$PROJECT_DIR/target/benchmarks.jar" \
+    $JMH_OPTS -rf json -rff "$RESULTS_DIR/java_results_default.json" \
     > "$RESULTS_DIR/java_benchmark_default.txt" 2>&1
 echo -e "${GREEN}✓ Default GC benchmarks completed${NC}\n"
 
 # G1GC
 echo -e "${YELLOW}Running benchmarks with G1GC...${NC}"
-java -XX:+UseG1GC -Xlog:gc*:file="$RESULTS_DIR/gc_g1.log" \
+java $JVM_OPTS -XX:+UseG1GC -Xlog:gc*:file="$RESULTS_DIR/gc_g1.log" \
     -jar "$PROJECT_DIR/target/benchmarks.jar" \
-    -rf json -rff "$RESULTS_DIR/java_results_g1gc.json" \
+    $JMH_OPTS -rf json -rff "$RESULTS_DIR/java_results_g1gc.json" \
     > "$RESULTS_DIR/java_benchmark_g1gc.txt" 2>&1
 echo -e "${GREEN}✓ G1GC benchmarks completed${NC}\n"
 
 # ZGC (Java 21+)
 if [ "$JAVA_VERSION" -ge 21 ]; then
     echo -e "${YELLOW}Running benchmarks with ZGC...${NC}"
-    java -XX:+UseZGC -Xlog:gc*:file="$RESULTS_DIR/gc_zgc.log" \
+    java $JVM_OPTS -XX:+UseZGC -Xlog:gc*:file="$RESULTS_DIR/gc_zgc.log" \
         -jar "$PROJECT_DIR/target/benchmarks.jar" \
-        -rf json -rff "$RESULTS_DIR/java_results_zgc.json" \
+        $JMH_OPTS -rf json -rff "$RESULTS_DIR/java_results_zgc.json" \
         > "$RESULTS_DIR/java_benchmark_zgc.txt" 2>&1
     echo -e "${GREEN}✓ ZGC benchmarks completed${NC}\n"
 else
@@ -163,12 +182,157 @@ fi
 
 # Parallel GC
 echo -e "${YELLOW}Running benchmarks with Parallel GC...${NC}"
-java -XX:+UseParallelGC -Xlog:gc*:file="$RESULTS_DIR/gc_parallel.log" \
+java $JVM_OPTS -XX:+UseParallelGC -Xlog:gc*:file="$RESULTS_DIR/gc_parallel.log" \
     -jar "$PROJECT_DIR/target/benchmarks.jar" \
-    -rf json -rff "$RESULTS_DIR/java_results_parallel.json" \
+    $JMH_OPTS -rf json -rff "$RESULTS_DIR/java_results_parallel.json" \
     > "$RESULTS_DIR/java_benchmark_parallel.txt" 2>&1
 echo -e "${GREEN}✓ Parallel GC benchmarks completed${NC}\n"
 
+# Thread scaling: JMH takes a single -t per run, so suites whose question is
+# "how does this scale with threads" are rerun (default GC) at 1, 2, 4, ...
+# up to twice the core count. Results land in java_scaling_<name>_t<N>.json.
+THREAD_COUNTS=""
+MAX_THREADS=$((2 * $(nproc)))
+t=1
+while [ "$t" -lt "$MAX_THREADS" ]; do
+    THREAD_COUNTS="$THREAD_COUNTS $t"
+    t=$((t * 2))
+done
+THREAD_COUNTS="$THREAD_COUNTS $MAX_THREADS"
+
+run_thread_sweep() {
+    local name="$1" pattern="$2"
+    for threads in $THREAD_COUNTS; do
+        java $JVM_OPTS -jar "$PROJECT_DIR/target/benchmarks.jar" "$pattern" -t "$threads" \
+            $JMH_OPTS -rf json -rff "$RESULTS_DIR/java_scaling_${name}_t${threads}.json" \
+            > "$RESULTS_DIR/java_scaling_${name}_t${threads}.txt" 2>&1
+    done
+}
+
+# Suites that size their own pool take it as a @Param instead of -t; they
+# are rerun at 1, 2, 4, ... up to the core count with -p <param>=N, into
+# java_scaling_<name>_p<N>.json.
+POOL_SIZES=""
+t=1
+while [ "$t" -lt "$(nproc)" ]; do
+    POOL_SIZES="$POOL_SIZES $t"
+    t=$((t * 2))
+done
+POOL_SIZES="$POOL_SIZES $(nproc)"
+
+run_pool_sweep() {
+    local name="$1" pattern="$2" param="$3"
+    shift 3
+    for size in $POOL_SIZES; do
+        java $JVM_OPTS -jar "$PROJECT_DIR/target/benchmarks.jar" "$pattern" -p "$param=$size" "$@" \
+            $JMH_OPTS -rf json -rff "$RESULTS_DIR/java_scaling_${name}_p${size}.json" \
+            > "$RESULTS_DIR/java_scaling_${name}_p${size}.txt" 2>&1
+    done
+}
+
+# Speedup and efficiency of each benchmark against its own 1-thread score:
+# efficiency = score(N) / (N * score(1)), so 100% is perfect scaling. N is
+# JMH's thread count, or the named @Param for a pool sweep.
+scaling_table() {
+    local name="$1" param="${2:-}"
+    command -v jq &> /dev/null || return 0
+    {
+        printf "Benchmark\tThreads\tops/s\tSpeedup\tEfficiency\n"
+        jq -r -s --arg param "$param" '
+            def key: (.benchmark | sub("^benchmark\\."; ""))
+                + ((.params // {}) | del(.[$param]) | to_entries | map("/" + .key + "=" + .value) | join(""));
+            def n: if $param == "" then .threads else (.params[$param] // null | tonumber?) end;
+            [.[][] | {k: key, t: n, s: .primaryMetric.score} | select(.t != null)]
+            | group_by(.k)[]
+            | (map(select(.t == 1))[0].s // null) as $base
+            | sort_by(.t)[]
+            | [.k, .t, (.s | round),
+               (if $base and $base > 0 then ((.s / $base * 100 | round) / 100 | tostring) + "x" else "NaN" end),
+               (if $base and $base > 0 then (.s / ($base * .t) * 100 | round | tostring) + "%" else "NaN" end)]
+            | @tsv' "$RESULTS_DIR"/java_scaling_"${name}"_[tp]*.json
+    } > "$RESULTS_DIR/java_scaling_${name}.tsv"
+}
+
+echo -e "${YELLOW}Running thread scaling sweeps (threads:${THREAD_COUNTS})...${NC}"
+run_thread_sweep hashing 'HashingBenchmarks'
+run_thread_sweep counters 'CounterBenchmarks'
+run_thread_sweep locks 'CompleteBenchmarks.benchmark(MutexContention|RWMutexReadHeavy)'
+scaling_table hashing
+scaling_table counters
+scaling_table locks
+echo -e "${GREEN}✓ Thread scaling sweeps completed${NC}\n"
+
+echo -e "${YELLOW}Running pool size sweeps (pool:${POOL_SIZES})...${NC}"
+run_pool_sweep paralleljson 'ParallelJsonBenchmarks.benchmarkParallelChunkedWrite' threads -p elements=1000000
+run_pool_sweep merkle 'MerkleBenchmarks.benchmarkMerkleRoot' parallelism -p size=67108864
+scaling_table paralleljson threads
+scaling_table merkle parallelism
+echo -e "${GREEN}✓ Pool size sweeps completed${NC}\n"
+
+# Crypto intrinsics: run CryptoBenchmarks with HotSpot's hash/cipher
+# intrinsics on and off. Only flags this JVM knows are passed, since an
+# unknown -XX flag aborts startup (older JDKs lack the ChaCha20/Poly1305 ones).
+echo -e "${YELLOW}Running crypto benchmarks with intrinsics on and off...${NC}"
+INTRINSIC_FLAGS=""
+KNOWN_FLAGS=$(java -XX:+UnlockDiagnosticVMOptions -XX:+PrintFlagsFinal -version 2>/dev/null)
+for flag in UseSHA UseAES UseAESIntrinsics UseAESCTRIntrinsics UseGHASHIntrinsics \
+            UseChaCha20Intrinsics UsePoly1305Intrinsics; do
+    if echo "$KNOWN_FLAGS" | grep -qw "$flag"; then
+        INTRINSIC_FLAGS="$INTRINSIC_FLAGS -XX:-$flag"
+    fi
+done
+java $JVM_OPTS -jar "$PROJECT_DIR/target/benchmarks.jar" 'CryptoBenchmarks' \
+    $JMH_OPTS -rf json -rff "$RESULTS_DIR/java_crypto_intrinsics_on.json" \
+    > "$RESULTS_DIR/java_crypto_intrinsics_on.txt" 2>&1
+java $JVM_OPTS -XX:+UnlockDiagnosticVMOptions $INTRINSIC_FLAGS \
+    -jar "$PROJECT_DIR/target/benchmarks.jar" 'CryptoBenchmarks' \
+    $JMH_OPTS -rf json -rff "$RESULTS_DIR/java_crypto_intrinsics_off.json" \
+    > "$RESULTS_DIR/java_crypto_intrinsics_off.txt" 2>&1
+echo "Disabled:$INTRINSIC_FLAGS" > "$RESULTS_DIR/java_crypto_intrinsics_flags.txt"
+
+if command -v jq &> /dev/null; then
+    {
+        printf "Benchmark\tIntrinsics on (ops/s)\tIntrinsics off (ops/s)\tSpeedup\n"
+        jq -r -n --slurpfile on "$RESULTS_DIR/java_crypto_intrinsics_on.json" \
+                 --slurpfile off "$RESULTS_DIR/java_crypto_intrinsics_off.json" '
+            def key: (.benchmark | sub("^benchmark\\."; ""))
+                + ((.params // {}) | to_entries | map("/" + .key + "=" + .value) | join(""));
+            ($off[0] | map({(key): .primaryMetric.score}) | add) as $offScores
+            | $on[0][] | key as $k | .primaryMetric.score as $s | ($offScores[$k] // null) as $o
+            | [$k, ($s | round), (if $o then ($o | round) else "NaN" end),
+               (if $o and $o > 0 then (($s / $o * 100 | round) / 100 | tostring) + "x" else "NaN" end)]
+            | @tsv'
+    } > "$RESULTS_DIR/java_crypto_intrinsics.tsv"
+fi
+echo -e "${GREEN}✓ Crypto intrinsics comparison completed${NC}\n"
+
+# Allocation metrics per benchmark, one table per GC configuration
+echo -e "${YELLOW}Extracting allocation metrics...${NC}"
+if command -v jq &> /dev/null; then
+    for json in "$RESULTS_DIR"/java_results_*.json; do
+        [ -f "$json" ] || continue
+        config=$(basename "$json" .json)
+        config=${config#java_results_}
+        {
+            printf "Benchmark\tB/op\tGC count\tGC time (ms)\tPauses\tPause p99 (ms)\tPause max (ms)\n"
+            jq -r '.[] | [
+                (.benchmark | sub("^benchmark\\."; ""))
+                    + ((.params // {}) | to_entries | map("/" + .key + "=" + .value) | join("")),
+                (.secondaryMetrics["gc.alloc.rate.norm"].score // "NaN"),
+                (.secondaryMetrics["gc.count"].score // 0),
+                (.secondaryMetrics["gc.time"].score // 0),
+                (.secondaryMetrics["gc.pause.count"].score // 0),
+                (.secondaryMetrics["gc.pause.p99"].score // 0),
+                (.secondaryMetrics["gc.pause.max"].score // 0)
+            ] | @tsv' "$json"
+        } > "$RESULTS_DIR/java_alloc_${config}.tsv"
+    done
+    echo -e "${GREEN}✓ Allocation metrics extracted${NC}\n"
+else
+    echo -e "${YELLOW}⚠ jq not installed, skipping allocation tables${NC}"
+    echo -e "${YELLOW}  Install with: sudo apt install jq${NC}\n"
+fi
+
 # ============================================================
 # System Benchmarks (Optional)
 # ============================================================
@@ -215,6 +379,19 @@ cat > "$RESULTS_DIR/README.md" << 'EOFSUM'
 - `java_results_zgc.json` - Machine-readable ZGC results
 - `java_results_parallel.json` - Machine-readable Parallel GC results
 
+### Thread Scaling
+- `java_scaling_<suite>_t<N>.json` / `.txt` - Suites rerun with `-t N` for N = 1, 2, 4, ... 2x cores (default GC); suites are `hashing`, `counters` and `locks`
+- `java_scaling_<suite>_p<N>.json` / `.txt` - Suites that own a pool rerun with `-p <param>=N` for N = 1, 2, 4, ... cores; suites are `paralleljson` (`threads`) and `merkle` (`parallelism`)
+- `java_scaling_<suite>.tsv` - ops/s, speedup and efficiency vs 1 thread (or pool size) per benchmark (if jq available)
+
+### Crypto Intrinsics
+- `java_crypto_intrinsics_on.json` / `_off.json` - `CryptoBenchmarks` with HotSpot's SHA/AES/GHASH/ChaCha20/Poly1305 intrinsics enabled and disabled
+- `java_crypto_intrinsics_flags.txt` - The `-XX:-...` flags used for the "off" run
+- `java_crypto_intrinsics.tsv` - Side-by-side ops/s and speedup (if jq available)
+
+### Allocation Metrics (if jq available)
+- `java_alloc_<config>.tsv` - Bytes allocated per op (`gc.alloc.rate.norm`), GC count and GC time per benchmark, from the JMH GC profiler, plus the benchmark's stop-the-world pause count, p99 and max from `GcPauseProfiler` (whole milliseconds, so sub-ms ZGC pauses read as 0)
+
 ### GC Logs
 - `gc_g1.log` - G1GC detailed logs
 - `gc_zgc.log` - ZGC detailed logs
@@ -265,8 +442,10 @@ benchmarkFibonacci20                  thrpt    5  1234.567 ± 12.345  ops/s
 - **SHA256Large**: Hash large data (1MB)
 
 ### Concurrency
-- **Threads10/100/1000**: Concurrent threads
-- **BlockingQueueOperations**: Producer-consumer pattern
+- **Threads10/100/1000**: Concurrent threads, once per executor (`executor=fixed100/fixedNproc/forkJoinAsync/workStealing/virtual`)
+- **BlockingQueueOperations**: Producer-consumer pattern, once per executor
+- **MutexContention**: Shared counter under `synchronized`, `ReentrantLock` (unfair/fair), `ReentrantReadWriteLock` and `StampedLock` (pairs with Go's BenchmarkMutexContention)
+- **RWMutexReadHeavy**: 100-entry table read/written at 50/50, 90/10 and 99/1 under the same locks; `StampedLock` readers go optimistic first
 - **AtomicContention**: Atomic operations under contention
 - **ConcurrentHashMap**: Concurrent map operations
 